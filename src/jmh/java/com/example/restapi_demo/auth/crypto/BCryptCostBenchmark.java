@@ -0,0 +1,40 @@
+package com.example.restapi_demo.auth.crypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost 별 로그인(matches) 한 번에 드는 CPU 시간
+ * - auth.password-hashing.bcrypt-strength 를 정할 때 서버에서 ./gradlew jmh 로 측정
+ * - 로그인 처리량 상한 ≈ (해시 스레드 수) / (결과 ms / 1000)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BCryptCostBenchmark {
+
+    @Param({"8", "10", "12", "13"})
+    public int strength;
+
+    private TunableBCryptPasswordEncoder encoder;
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        encoder = new TunableBCryptPasswordEncoder(strength);
+        hash = encoder.encode("Abcd1234!");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("Abcd1234!", hash);
+    }
+}
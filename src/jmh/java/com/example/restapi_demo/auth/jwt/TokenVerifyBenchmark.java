@@ -0,0 +1,64 @@
+package com.example.restapi_demo.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 하나당 JWT 처리 비용
+ * - twoParses: 예전 JwtFilter 방식 (validateToken + getAuthentication, 매번 키/파서 생성 → 파싱/서명 확인 2번)
+ * - singleVerify: TokenProvider.verify (키/파서 재사용, 파싱/서명 확인 1번)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenVerifyBenchmark {
+
+    private static final String SECRET = "your-very-secure-secret-key-that-should-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new TokenProvider(SECRET, 86_400_000L);
+        token = tokenProvider.createToken(1L, "bench@example.com", "벤치", "ROLE_USER");
+    }
+
+    @Benchmark
+    public Authentication twoParses() {
+        // validateToken
+        Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseSignedClaims(token);
+
+        // getAuthentication
+        Claims claims = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                .parseSignedClaims(token).getPayload();
+        List<GrantedAuthority> authorities = Arrays.stream(claims.get("auth").toString().split(","))
+                .filter(s -> !s.isBlank())
+                .map(s -> (GrantedAuthority) new SimpleGrantedAuthority(s))
+                .toList();
+        CustomUserPrincipal principal = new CustomUserPrincipal(
+                claims.get("userId", Long.class), claims.getSubject(), claims.get("nickname", String.class), authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+    }
+
+    @Benchmark
+    public Authentication singleVerify() {
+        return tokenProvider.verify(token).authentication();
+    }
+}
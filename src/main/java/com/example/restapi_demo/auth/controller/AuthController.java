@@ -1,11 +1,21 @@
 package com.example.restapi_demo.auth.controller;
 
 import com.example.restapi_demo.common.api.ApiResponse;
+import com.example.restapi_demo.auth.crypto.PasswordHashingBusyException;
 import com.example.restapi_demo.auth.dto.LoginRequest;
+import com.example.restapi_demo.auth.dto.RefreshRequest;
+import com.example.restapi_demo.auth.jwt.JwtFilter;
 import com.example.restapi_demo.auth.jwt.TokenProvider;
+import com.example.restapi_demo.auth.jwt.TokenRevocationList;
+import com.example.restapi_demo.auth.jwt.VerifiedToken;
+import com.example.restapi_demo.auth.jwt.VerifiedTokenCache;
+import com.example.restapi_demo.auth.service.AuthUserDetails;
+import com.example.restapi_demo.auth.service.RefreshTokenService;
+import com.example.restapi_demo.auth.throttle.LoginRateLimiter;
 import com.example.restapi_demo.user.model.User;
 import com.example.restapi_demo.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
@@ -26,10 +36,14 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final UserService userService;
     private final TokenProvider tokenProvider;
+    private final LoginRateLimiter loginRateLimiter;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenService refreshTokenService;
 
-    @Operation(summary = "로그인", description = "JWT 토큰 발급")
+    @Operation(summary = "로그인", description = "JWT 액세스 토큰 + 리프레시 토큰 발급 (IP / 이메일 별 시도 횟수 제한, 초과 시 429 + Retry-After)")
     @PostMapping(value = "/login")
-    public ResponseEntity<ApiResponse<Object>> login(@RequestBody LoginRequest req) {
+    public ResponseEntity<ApiResponse<Object>> login(@RequestBody LoginRequest req, HttpServletRequest request) {
         try {
             if (req == null || req.getEmail() == null || req.getEmail().isBlank()
                     || req.getPassword() == null || req.getPassword().isBlank()) {
@@ -39,6 +53,16 @@ public class AuthController {
                         .body(new ApiResponse<>("invalid_request", null));
             }
 
+            // 0. 시도 횟수 제한 (비밀번호 해시 전에 거절)
+            //    IP 는 getRemoteAddr 기준 - 프록시 뒤라면 server.forward-headers-strategy 로 실제 클라이언트 주소가 들어오게 설정
+            long retryAfter = loginRateLimiter.tryAcquire(request.getRemoteAddr(), req.getEmail());
+            if (retryAfter > 0) {
+                log.warn("로그인 시도 제한: ip={}, email={}", request.getRemoteAddr(), req.getEmail());
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                        .body(new ApiResponse<>("too_many_login_attempts", null));
+            }
+
             // 1. 인증
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(req.getEmail(), req.getPassword())
@@ -51,32 +75,49 @@ public class AuthController {
 
             log.info("로그인 성공: email={}, authorities={}", authentication.getName(), authorities);
 
-            // 3. 사용자 정보 조회 (토큰 생성 & 응답 데이터용)
-            User user = userService.findByEmail(req.getEmail());
-            if (user == null) {
-                log.error("로그인 후 사용자 조회 실패: email={}", req.getEmail());
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(new ApiResponse<>("internal_server_error", null));
+            // 3. 사용자 정보 (토큰 생성 & 응답 데이터용)
+            //    인증 과정에서 읽은 principal 을 그대로 사용, 다른 타입일 때만 다시 조회
+            Long userId;
+            String email;
+            String nickname;
+            if (authentication.getPrincipal() instanceof AuthUserDetails details) {
+                userId = details.getId();
+                email = details.getUsername();
+                nickname = details.getNickname();
+            } else {
+                User user = userService.findByEmail(req.getEmail());
+                if (user == null) {
+                    log.error("로그인 후 사용자 조회 실패: email={}", req.getEmail());
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                            .body(new ApiResponse<>("internal_server_error", null));
+                }
+                userId = user.getId();
+                email = user.getEmail();
+                nickname = user.getNickname();
             }
 
-            // 4. JWT 토큰 생성 (userId, email, nickname, authorities 포함)
-            String token = tokenProvider.createToken(
-                    user.getId(),
-                    user.getEmail(),
-                    user.getNickname(),
-                    authorities
-            );
+            // 4. JWT 토큰 생성 (userId, email, nickname, authorities 포함) + 리프레시 토큰 (새 family)
+            String token = tokenProvider.createToken(userId, email, nickname, authorities);
+            RefreshTokenService.Issued refresh = refreshTokenService.issue(userId);
 
             // 5. 응답 반환
             return ResponseEntity.ok(
                     new ApiResponse<>("loginSuccess", Map.of(
                             "token", token,
-                            "user_id", user.getId(),
-                            "email", user.getEmail(),
-                            "nickname", user.getNickname()
+                            "refresh_token", refresh.token(),
+                            "user_id", userId,
+                            "email", email,
+                            "nickname", nickname
                     ))
             );
 
+        } catch (PasswordHashingBusyException e) {
+            // 해시 대기열이 가득 참 → 요청 스레드를 붙잡지 않고 바로 503
+            log.warn("로그인 처리 지연 (해시 대기열 포화): email={}", req.getEmail());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new ApiResponse<>("server_busy", null));
+
         } catch (BadCredentialsException e) {
             log.warn("로그인 실패 (BadCredentials): email={}, message={}",
                     req != null ? req.getEmail() : "null", e.getMessage());
@@ -93,11 +134,71 @@ public class AuthController {
         }
     }
 
-    @Operation(summary = "로그아웃")
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 액세스 토큰 + 새 리프레시 토큰 발급 (쓴 리프레시 토큰은 더 이상 사용 불가)")
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "token_refreshed"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "invalid_request"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "invalid_refresh_token / refresh_token_reused"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "internal_server_error")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<Object>> refresh(@RequestBody RefreshRequest req) {
+        try {
+            if (req == null || req.getRefresh_token() == null || req.getRefresh_token().isBlank()) {
+                return ResponseEntity.badRequest()
+                        .body(new ApiResponse<>("invalid_request", null));
+            }
+
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(req.getRefresh_token());
+            if (rotation.status() == RefreshTokenService.Status.REUSED) {
+                // 이미 쓴 토큰 → 같은 로그인에서 이어진 토큰 전부 폐기됨, 다시 로그인 필요
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new ApiResponse<>("refresh_token_reused", null));
+            }
+            if (rotation.status() != RefreshTokenService.Status.ROTATED) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new ApiResponse<>("invalid_refresh_token", null));
+            }
+
+            // 닉네임/권한은 토큰에 들어가므로 최신 값으로 다시 읽는다 (탈퇴한 사용자면 null)
+            User user = userService.findById(rotation.userId());
+            if (user == null) {
+                refreshTokenService.revokeAllForUser(rotation.userId());
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new ApiResponse<>("invalid_refresh_token", null));
+            }
+
+            String token = tokenProvider.createToken(
+                    user.getId(), user.getEmail(), user.getNickname(), "ROLE_" + user.getRole().name());
+
+            return ResponseEntity.ok(
+                    new ApiResponse<>("token_refreshed", Map.of(
+                            "token", token,
+                            "refresh_token", rotation.next().token()
+                    ))
+            );
+        } catch (Exception e) {
+            log.error("토큰 재발급 중 예외 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>("internal_server_error", null));
+        }
+    }
+
+    @Operation(summary = "로그아웃", description = "요청에 쓴 액세스 토큰을 폐기하고, 바디에 리프레시 토큰이 있으면 그 로그인의 리프레시 토큰도 폐기")
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Object>> logout() {
-        // JWT는 Stateless이므로 서버에서 할 일 없음
-        // 클라이언트에서 토큰 삭제하면 됨
+    public ResponseEntity<ApiResponse<Object>> logout(HttpServletRequest request,
+                                                      @RequestBody(required = false) RefreshRequest req) {
+        if (req != null) refreshTokenService.revoke(req.getRefresh_token());
+
+        // 토큰이 없거나 이미 무효면 할 일 없음 (클라이언트는 토큰을 지우면 됨)
+        String token = JwtFilter.resolveToken(request);
+        if (token != null && !token.isBlank()) {
+            VerifiedToken verified = verifiedTokenCache.get(token, tokenProvider::verify);
+            if (verified.isValid()) {
+                tokenRevocationList.revoke(verified);
+                verifiedTokenCache.invalidate(token);
+            }
+        }
         return ResponseEntity.ok(new ApiResponse<>("logout_success", null));
     }
 }
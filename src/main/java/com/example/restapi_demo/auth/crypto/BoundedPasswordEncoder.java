@@ -0,0 +1,150 @@
+package com.example.restapi_demo.auth.crypto;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해시(encode / matches)를 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * - BCrypt 한 번에 ~100ms 씩 CPU 를 쓰므로, 로그인이 몰리면 Tomcat 워커 스레드가 전부 해시에 묶여 조회 요청까지 밀린다.
+ * - 해시는 코어 수 정도의 스레드에서만 돌리고, 대기열(queueCapacity)이 차면 바로 PasswordHashingBusyException (→ 503)
+ *   → 해시 때문에 묶이는 요청 스레드는 최대 (threads + queueCapacity) 개, 나머지 스레드는 조회를 계속 처리한다.
+ * - 대기열에 들어갔더라도 waitTimeout 안에 끝나지 않으면 취소하고 같은 예외를 던진다.
+ * - upgradeEncoding 은 해시 계산이 없으므로 호출 스레드에서 바로 처리.
+ *   단, 대기열이 밀려 있으면 false → 로그인 성공 후 재해시(해시 한 번 더)는 한가할 때로 미룬다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, StatsSource {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long waitTimeoutMillis;
+    private final long retryAfterSeconds;
+
+    // 통계
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Long::max, 0);
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  long waitTimeoutMillis, long retryAfterSeconds) {
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        this.delegate = delegate;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.waitTimeoutMillis = Math.max(1, waitTimeoutMillis);
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (!executor.getQueue().isEmpty()) return false;
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> hash) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return hash.call();
+                } finally {
+                    long took = System.nanoTime() - startedAt;
+                    hashes.increment();
+                    hashNanos.add(took);
+                    maxHashNanos.accumulate(took);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new PasswordHashingBusyException("password hashing queue is full", retryAfterSeconds);
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.incrementAndGet();
+            throw new PasswordHashingBusyException("password hashing timed out", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("interrupted while waiting for password hashing", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public String statsName() {
+        return "password-hashing";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        long count = hashes.sum();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("threads", executor.getMaximumPoolSize());
+        m.put("active", executor.getActiveCount());
+        m.put("queueDepth", executor.getQueue().size());
+        m.put("queueCapacity", queueCapacity);
+        m.put("hashes", count);
+        m.put("avgHashMillis", count == 0 ? 0.0 : hashNanos.sum() / 1_000_000.0 / count);
+        m.put("maxHashMillis", maxHashNanos.get() / 1_000_000.0);
+        m.put("avgQueueWaitMillis", count == 0 ? 0.0 : queueWaitNanos.sum() / 1_000_000.0 / count);
+        m.put("rejected", rejected.get());
+        m.put("timedOut", timedOut.get());
+        return m;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.restapi_demo.auth.crypto;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 찼을 때 (또는 대기 시간이 초과됐을 때)
+ * - 컨트롤러에서 503 + Retry-After 로 바꿔서 응답
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.restapi_demo.auth.crypto;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * cost(strength)를 설정으로 정하는 BCrypt encoder
+ * - 기본 BCryptPasswordEncoder.upgradeEncoding 은 cost 가 "낮을 때만" true 라서 cost 를 내릴 수가 없다.
+ *   여기서는 저장된 해시의 cost 가 목표 cost 와 다르면 (높든 낮든) 재해시 대상으로 본다.
+ * - 실제 재해시는 로그인 성공 시 DaoAuthenticationProvider 가 UserDetailsPasswordService 로 처리한다.
+ */
+public class TunableBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public TunableBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) return false;
+        Matcher m = BCRYPT_COST.matcher(encodedPassword);
+        if (!m.find()) return false;   // BCrypt 형식이 아니면 matches 에서 이미 실패
+        return Integer.parseInt(m.group(1)) != strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.restapi_demo.auth.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "토큰 재발급 / 로그아웃 요청 바디")
+public class RefreshRequest {
+    @Schema(description = "로그인 또는 재발급 때 받은 리프레시 토큰")
+    private String refresh_token;
+
+    public RefreshRequest() {}
+
+    public String getRefresh_token() { return refresh_token; }
+}
@@ -4,25 +4,71 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.util.StringUtils;
+import org.springframework.util.function.SingletonSupplier;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Bearer 토큰 → SecurityContext
+ * - 일반 경로: 토큰을 바로 검증하고, 잘못된 토큰이면 여기서 401
+ * - 공개 경로(jwt.deferred-paths): 검증을 미뤄 두고 누군가 인증 정보를 읽을 때 한 번만 검증한다.
+ *   (permitAll 인가는 인증 정보를 읽지 않으므로, 컨트롤러가 principal 을 안 쓰면 서명 확인도 없음)
+ *   잘못된/폐기된 토큰이면 401 대신 익명으로 처리
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
 
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final List<DeferredPath> deferredPaths;
+
+    private final SecurityContextHolderStrategy securityContextHolderStrategy = SecurityContextHolder.getContextHolderStrategy();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public JwtFilter(TokenProvider tokenProvider,
+                     VerifiedTokenCache verifiedTokenCache,
+                     TokenRevocationList tokenRevocationList,
+                     @Value("${jwt.deferred-paths:GET /api/posts/**,GET /api/users/*/posts,POST /api/posts/*/views,"
+                             + "POST /api/auth/login,POST /api/auth/logout,POST /api/auth/refresh,"
+                             + "/v3/api-docs/**,/swagger-ui/**,/swagger-ui.html,/db/check}") String[] deferredPaths) {
+        this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationList = tokenRevocationList;
+        this.deferredPaths = Arrays.stream(deferredPaths)
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(DeferredPath::parse)
+                .toList();
+    }
+
+    /**
+     * "GET /api/posts/**" 처럼 메서드 + 패턴, 또는 패턴만 (모든 메서드)
+     */
+    private record DeferredPath(String method, String pattern) {
+        static DeferredPath parse(String spec) {
+            int space = spec.indexOf(' ');
+            if (space < 0) return new DeferredPath(null, spec);
+            return new DeferredPath(spec.substring(0, space).toUpperCase(Locale.ROOT), spec.substring(space + 1).trim());
+        }
+    }
 
     @Override
     protected void doFilterInternal(
@@ -43,25 +89,41 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 2. 토큰이 있는 경우 → 유효성 검사 후 잘못되면 여기서 바로 401 응답
+        // 2. 공개 경로 → 검증은 인증 정보를 처음 읽을 때로 미룬다 (한 번만, 결과는 요청 동안 재사용)
+        if (isDeferred(request)) {
+            log.debug("[JwtFilter] 공개 경로, 토큰 검증 지연. uri={}, method={}", uri, method);
+            securityContextHolderStrategy.setDeferredContext(SingletonSupplier.of(() -> resolveContext(jwt, uri)));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // 3. 토큰이 있는 경우 → 유효성 검사 후 잘못되면 여기서 바로 401 응답
         try {
             log.debug("[JwtFilter] 토큰 감지 → 유효성 검사 시작. uri={}, method={}", uri, method);
 
-            boolean valid = tokenProvider.validateToken(jwt);
+            // 서명 확인과 Authentication 생성을 한 번의 파싱으로 (같은 토큰은 exp 까지 캐시에서)
+            VerifiedToken verified = verifiedTokenCache.get(jwt, tokenProvider::verify);
 
-            if (!valid) {
+            if (!verified.isValid()) {
                 log.warn("[JwtFilter] 유효하지 않은 JWT 토큰. uri={}, method={}", uri, method);
                 writeUnauthorized(response, "invalid_token");
                 return; // 더 이상 필터 체인 진행 X
             }
 
-            // 3. 유효한 토큰이면 Authentication 생성해서 SecurityContext에 저장
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+            // 폐기 확인은 캐시 적중이어도 매번 (jti / userId 해시 조회)
+            if (tokenRevocationList.isRevoked(verified)) {
+                log.warn("[JwtFilter] 폐기된 JWT 토큰. uri={}, method={}", uri, method);
+                writeUnauthorized(response, "invalid_token");
+                return;
+            }
+
+            // 4. 유효한 토큰이면 Authentication 을 SecurityContext에 저장
+            Authentication authentication = verified.authentication();
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
             log.debug("[JwtFilter] JWT 인증 성공. user={}, uri={}", authentication.getName(), uri);
 
-            // 4. 다음 필터로 진행
+            // 5. 다음 필터로 진행
             filterChain.doFilter(request, response);
 
         } catch (Exception e) {
@@ -71,10 +133,37 @@ public class JwtFilter extends OncePerRequestFilter {
         }
     }
 
+    private boolean isDeferred(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (DeferredPath p : deferredPaths) {
+            if (p.method() != null && !p.method().equals(request.getMethod())) continue;
+            if (pathMatcher.match(p.pattern(), path)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 지연된 토큰 검증 - 유효하면 인증된 context, 아니면 빈 context (익명)
+     */
+    private SecurityContext resolveContext(String jwt, String uri) {
+        SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+        try {
+            VerifiedToken verified = verifiedTokenCache.get(jwt, tokenProvider::verify);
+            if (verified.isValid() && !tokenRevocationList.isRevoked(verified)) {
+                context.setAuthentication(verified.authentication());
+            } else {
+                log.debug("[JwtFilter] 공개 경로의 유효하지 않은 토큰 → 익명 처리. uri={}", uri);
+            }
+        } catch (RuntimeException e) {
+            log.warn("[JwtFilter] 지연된 토큰 처리 중 예외 → 익명 처리. uri={}", uri, e);
+        }
+        return context;
+    }
+
     /**
      * Authorization 헤더에서 Bearer 토큰 추출
      */
-    private String resolveToken(HttpServletRequest request) {
+    public static String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
             return bearerToken.substring(BEARER_PREFIX.length());
@@ -11,8 +11,9 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
@@ -21,15 +22,26 @@ public class TokenProvider {
     private static final String AUTHORITIES_KEY = "auth";
     private static final String USER_ID_KEY = "userId";
     private static final String NICKNAME_KEY = "nickname";
+    // 표준 iat 는 초 단위라, 비밀번호 변경 직후 같은 초에 다시 로그인한 토큰을 구분하려면 밀리초 발급 시각이 필요
+    private static final String ISSUED_AT_MS_KEY = "iatMs";
 
-    @Value("${jwt.secret}")
-    private String secret;
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long expiration;
 
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    // 권한 문자열("ROLE_USER" 등)은 종류가 몇 개 안 되므로 파싱 결과를 재사용
+    private final Map<String, List<GrantedAuthority>> authoritiesCache = new ConcurrentHashMap<>();
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    /**
+     * 키와 파서는 여기서 한 번만 만든다. (둘 다 불변이라 여러 스레드에서 같이 써도 됨)
+     */
+    public TokenProvider(@Value("${jwt.secret}") String secret,
+                         @Value("${jwt.expiration}") long expiration) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.expiration = expiration;
     }
 
     /**
@@ -45,67 +57,90 @@ public class TokenProvider {
         Date validity = new Date(now + expiration);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())   // jti - 로그아웃 시 이 토큰만 폐기할 때 사용
                 .subject(email)
                 .claim(USER_ID_KEY, userId)
                 .claim(NICKNAME_KEY, nickname)
                 .claim(AUTHORITIES_KEY, authorities)
+                .claim(ISSUED_AT_MS_KEY, now)
                 .issuedAt(new Date(now))
                 .expiration(validity)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
-     * 토큰에서 Authentication 객체 추출
+     * 토큰 검증 + Authentication 생성 (파싱/서명 확인 한 번)
      * - principal 에 CustomUserPrincipal 사용
+     * - 서명이 틀리거나 형식이 잘못되면 INVALID, 만료면 EXPIRED
      */
-    public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        // 권한 목록
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .filter(s -> !s.isBlank())
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-        Long userId = claims.get(USER_ID_KEY, Long.class);
-        String email = claims.getSubject();
-        String nickname = claims.get(NICKNAME_KEY, String.class);
+    public VerifiedToken verify(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            log.warn("만료된 JWT 토큰입니다: {}", e.getMessage());
+            return VerifiedToken.expired();
+        } catch (UnsupportedJwtException e) {
+            log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+            return VerifiedToken.invalid();
+        } catch (JwtException e) {
+            log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
+            return VerifiedToken.invalid();
+        } catch (IllegalArgumentException e) {
+            log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
+            return VerifiedToken.invalid();
+        }
+
+        Object rawAuthorities = claims.get(AUTHORITIES_KEY);
+        List<GrantedAuthority> authorities = parseAuthorities(rawAuthorities == null ? "" : rawAuthorities.toString());
 
         CustomUserPrincipal principal = new CustomUserPrincipal(
-                userId,
-                email,
-                nickname,
+                claims.get(USER_ID_KEY, Long.class),
+                claims.getSubject(),
+                claims.get(NICKNAME_KEY, String.class),
                 authorities
         );
 
-        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+        // iatMs 가 없는 예전 토큰은 초 단위 iat 사용 (내림이므로 더 이르게 본다)
+        Long iatMs = claims.get(ISSUED_AT_MS_KEY, Long.class);
+        Date iat = (iatMs != null) ? new Date(iatMs) : claims.getIssuedAt();
+        Date exp = claims.getExpiration();
+        return VerifiedToken.valid(
+                new UsernamePasswordAuthenticationToken(principal, null, authorities),
+                parseTokenId(claims.getId()),
+                iat == null ? null : iat.toInstant(),
+                exp == null ? null : exp.toInstant());
+    }
+
+    /**
+     * 토큰에서 Authentication 객체 추출 (유효하지 않으면 null)
+     */
+    public Authentication getAuthentication(String token) {
+        return verify(token).authentication();
     }
 
     /**
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
+        return verify(token).isValid();
+    }
+
+    // jti 가 없거나(이전 버전 토큰) UUID 가 아니면 null
+    private static UUID parseTokenId(String jti) {
+        if (jti == null) return null;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.warn("잘못된 JWT 서명입니다: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.warn("만료된 JWT 토큰입니다: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.warn("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
+            return UUID.fromString(jti);
         } catch (IllegalArgumentException e) {
-            log.warn("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
+            return null;
         }
-        return false;
+    }
+
+    private List<GrantedAuthority> parseAuthorities(String raw) {
+        return authoritiesCache.computeIfAbsent(raw, key -> Arrays.stream(key.split(","))
+                .filter(s -> !s.isBlank())
+                .map(s -> (GrantedAuthority) new SimpleGrantedAuthority(s))
+                .toList());
     }
 }
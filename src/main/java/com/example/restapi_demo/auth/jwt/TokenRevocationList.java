@@ -0,0 +1,103 @@
+package com.example.restapi_demo.auth.jwt;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 쪽 토큰 폐기 목록 (인메모리)
+ * - 토큰 단위: jti(UUID) → 토큰 exp. 로그아웃한 토큰을 exp 까지만 들고 있다가 자동으로 지운다.
+ *   UUID 키(long 두 개)라 토큰 문자열을 들고 있는 것보다 작다.
+ * - 사용자 단위: userId → "이 시각(밀리초)까지 발급된 토큰은 무효" (탈퇴, 비밀번호 변경)
+ *   발급 시각은 토큰의 iatMs 클레임 - 변경 직후 같은 초에 다시 로그인해 받은 토큰은 유효
+ *   가장 긴 토큰 수명(jwt.expiration)이 지나면 그 이전 토큰은 어차피 만료이므로 같이 지운다.
+ * - 요청마다 해시 조회 두 번 (jti, userId). 만료된 항목은 Caffeine scheduler 가 정리
+ * - 서버 메모리에만 있으므로 재시작하면 비워지고, 여러 대로 띄우면 서버끼리 공유되지 않는다.
+ */
+@Component
+public class TokenRevocationList implements StatsSource {
+
+    private final Cache<UUID, Instant> revokedTokens;
+    private final Cache<Long, Long> issuedBefore;
+
+    public TokenRevocationList(@Value("${jwt.expiration}") long expirationMillis) {
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new Expiry<UUID, Instant>() {
+                    @Override
+                    public long expireAfterCreate(UUID key, Instant exp, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), exp).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(UUID key, Instant exp, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, exp, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(UUID key, Instant exp, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+        this.issuedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(Math.max(1, expirationMillis), TimeUnit.MILLISECONDS)
+                .scheduler(Scheduler.systemScheduler())
+                .build();
+    }
+
+    /**
+     * 토큰 하나 폐기 (로그아웃) - jti 가 없는 예전 토큰은 개별 폐기 불가, exp 까지 유효
+     */
+    public void revoke(VerifiedToken token) {
+        if (token == null || token.tokenId() == null || token.expiresAt() == null) return;
+        if (token.expiresAt().isAfter(Instant.now())) {
+            revokedTokens.put(token.tokenId(), token.expiresAt());
+        }
+    }
+
+    /**
+     * 사용자의 지금까지 발급된 토큰 전부 무효 (탈퇴, 비밀번호 변경)
+     */
+    public void revokeAllIssuedBefore(Long userId, Instant now) {
+        if (userId == null) return;
+        issuedBefore.asMap().merge(userId, now.toEpochMilli(), Math::max);
+    }
+
+    public void revokeAllIssuedBefore(Long userId) {
+        revokeAllIssuedBefore(userId, Instant.now());
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.tokenId() != null && revokedTokens.getIfPresent(token.tokenId()) != null) return true;
+
+        if (!(token.authentication().getPrincipal() instanceof CustomUserPrincipal principal)) return false;
+        Long watermark = issuedBefore.getIfPresent(principal.getId());
+        return watermark != null
+                && (token.issuedAt() == null || token.issuedAt().toEpochMilli() <= watermark);
+    }
+
+    @Override
+    public String statsName() {
+        return "token-revocation";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("revokedTokens", revokedTokens.estimatedSize());
+        m.put("userWatermarks", issuedBefore.estimatedSize());
+        return m;
+    }
+}
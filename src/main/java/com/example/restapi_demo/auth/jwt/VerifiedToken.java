@@ -0,0 +1,36 @@
+package com.example.restapi_demo.auth.jwt;
+
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 토큰 검증 결과 - 서명/만료 확인과 Authentication 생성을 한 번의 파싱으로 끝낸다.
+ * - VALID 일 때만 authentication, issuedAt, expiresAt 이 채워진다. tokenId(jti) 는 없는 토큰도 있음
+ */
+public record VerifiedToken(Status status, Authentication authentication,
+                            UUID tokenId, Instant issuedAt, Instant expiresAt) {
+
+    public enum Status { VALID, EXPIRED, INVALID }
+
+    private static final VerifiedToken EXPIRED = new VerifiedToken(Status.EXPIRED, null, null, null, null);
+    private static final VerifiedToken INVALID = new VerifiedToken(Status.INVALID, null, null, null, null);
+
+    public static VerifiedToken valid(Authentication authentication, UUID tokenId,
+                                      Instant issuedAt, Instant expiresAt) {
+        return new VerifiedToken(Status.VALID, authentication, tokenId, issuedAt, expiresAt);
+    }
+
+    public static VerifiedToken expired() {
+        return EXPIRED;
+    }
+
+    public static VerifiedToken invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.restapi_demo.auth.jwt;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 검증이 끝난 토큰 캐시 - 같은 토큰이 다시 오면 파싱/서명 확인/principal 생성을 건너뛴다.
+ * - 키는 토큰 원문이 아니라 SHA-256 (메모리에 토큰을 그대로 들고 있지 않도록)
+ * - 항목은 토큰의 exp 시각에 만료되고, 최대 개수를 넘으면 Caffeine 이 덜 쓰인 것부터 내보낸다.
+ * - VALID 결과만 저장한다. 만료/잘못된 토큰은 매번 검증 (실패 응답이 캐시 때문에 바뀌지 않도록)
+ * - 폐기(로그아웃 등) 확인은 이 캐시 밖에서 매 요청 한다. 캐시 적중이어도 건너뛰지 않음
+ */
+@Component
+public class VerifiedTokenCache implements StatsSource {
+
+    private final Cache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return untilExpiry(value);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    private static long untilExpiry(VerifiedToken value) {
+        return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+    }
+
+    /**
+     * 캐시에 있으면 그대로, 없으면 verifier 로 검증하고 유효하면 저장
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        String key = keyOf(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) return cached;
+
+        VerifiedToken verified = verifier.apply(token);
+        if (verified.isValid() && verified.expiresAt() != null && verified.expiresAt().isAfter(Instant.now())) {
+            cache.put(key, verified);
+        }
+        return verified;
+    }
+
+    public void invalidate(String token) {
+        cache.invalidate(keyOf(token));
+    }
+
+    private static String keyOf(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 이 SHA-256 을 제공해야 하므로 여기 올 일은 없음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "verified-token-cache";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        CacheStats s = cache.stats();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("size", cache.estimatedSize());
+        m.put("hits", s.hitCount());
+        m.put("misses", s.missCount());
+        m.put("hitRate", s.hitRate());
+        m.put("evictions", s.evictionCount());
+        return m;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.restapi_demo.auth.repository;
+
+import com.example.restapi_demo.auth.model.RefreshToken;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 메모리 저장소 (단일 서버/로컬 개발용) - 재시작하면 모든 리프레시 토큰이 무효가 된다.
+ * - 토큰 해시 → 토큰. family/user 단위 폐기는 전체를 훑는다 (로그아웃/탈퇴 때만 호출)
+ */
+@Repository
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, RefreshToken> store = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong(1L);
+
+    @Override
+    public RefreshToken save(RefreshToken token) {
+        if (token.getId() == null) token.setId(sequence.getAndIncrement());
+        if (token.getCreatedAt() == null) token.setCreatedAt(LocalDateTime.now());
+        if (token.getRevoked() == null) token.setRevoked(false);
+        store.put(token.getTokenHash(), token);
+        return token;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return Optional.ofNullable(store.get(tokenHash));
+    }
+
+    @Override
+    public boolean markUsed(String tokenHash, LocalDateTime usedAt) {
+        AtomicBoolean marked = new AtomicBoolean(false);
+        // computeIfPresent 는 키 단위로 원자적으로 실행됨
+        store.computeIfPresent(tokenHash, (k, t) -> {
+            if (t.getUsedAt() == null && !t.getRevoked()) {
+                t.setUsedAt(usedAt);
+                marked.set(true);
+            }
+            return t;
+        });
+        return marked.get();
+    }
+
+    @Override
+    public int revokeFamily(String familyId) {
+        return revokeWhere(t -> familyId.equals(t.getFamilyId()));
+    }
+
+    @Override
+    public int revokeAllByUser(Long userId) {
+        return revokeWhere(t -> userId.equals(t.getUserId()));
+    }
+
+    private int revokeWhere(Predicate<RefreshToken> match) {
+        AtomicInteger revoked = new AtomicInteger();
+        for (String key : store.keySet()) {
+            store.computeIfPresent(key, (k, t) -> {
+                if (match.test(t) && !t.getRevoked()) {
+                    t.setRevoked(true);
+                    revoked.incrementAndGet();
+                }
+                return t;
+            });
+        }
+        return revoked.get();
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        int before = store.size();
+        store.values().removeIf(t -> t.getExpiresAt().isBefore(now));
+        return before - store.size();
+    }
+}
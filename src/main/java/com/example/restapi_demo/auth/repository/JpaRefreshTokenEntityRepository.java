@@ -0,0 +1,35 @@
+package com.example.restapi_demo.auth.repository;
+
+import com.example.restapi_demo.auth.model.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JpaRefreshTokenEntityRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // where 조건으로 한 번만 성공하도록 (조회 후 변경하면 동시 요청 둘 다 통과할 수 있음)
+    @Modifying
+    @Query("""
+        update RefreshToken t set t.usedAt = :usedAt
+        where t.tokenHash = :tokenHash and t.usedAt is null and t.revoked = false
+        """)
+    int markUsed(@Param("tokenHash") String tokenHash, @Param("usedAt") LocalDateTime usedAt);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.familyId = :familyId and t.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("update RefreshToken t set t.revoked = true where t.userId = :userId and t.revoked = false")
+    int revokeAllByUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,53 @@
+package com.example.restapi_demo.auth.repository;
+
+import com.example.restapi_demo.auth.model.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final JpaRefreshTokenEntityRepository jpa;
+
+    @Override
+    public RefreshToken save(RefreshToken token) {
+        return jpa.save(token);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return jpa.findByTokenHash(tokenHash);
+    }
+
+    @Transactional
+    @Override
+    public boolean markUsed(String tokenHash, LocalDateTime usedAt) {
+        return jpa.markUsed(tokenHash, usedAt) == 1;
+    }
+
+    @Transactional
+    @Override
+    public int revokeFamily(String familyId) {
+        return jpa.revokeFamily(familyId);
+    }
+
+    @Transactional
+    @Override
+    public int revokeAllByUser(Long userId) {
+        return jpa.revokeAllByUser(userId);
+    }
+
+    @Transactional
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return jpa.deleteExpired(now);
+    }
+}
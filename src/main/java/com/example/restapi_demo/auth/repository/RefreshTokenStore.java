@@ -0,0 +1,28 @@
+package com.example.restapi_demo.auth.repository;
+
+import com.example.restapi_demo.auth.model.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소
+ * - auth.refresh-token.store: jpa(기본, refresh_tokens 테이블) / memory(단일 서버, 재시작 시 전부 무효)
+ */
+public interface RefreshTokenStore {
+
+    RefreshToken save(RefreshToken token);
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * 사용 표시 - 아직 안 쓰였고 revoked 가 아닐 때만 true (동시에 두 번 와도 한 쪽만 성공)
+     */
+    boolean markUsed(String tokenHash, LocalDateTime usedAt);
+
+    int revokeFamily(String familyId);
+
+    int revokeAllByUser(Long userId);
+
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,27 @@
+package com.example.restapi_demo.auth.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 로그인 인증용 UserDetails (username = email)
+ * - 인증 과정에서 이미 읽은 사용자 id / 닉네임을 같이 담아서,
+ *   로그인 처리 후 토큰을 만들 때 사용자를 다시 조회하지 않도록 한다.
+ */
+public class AuthUserDetails extends User {
+
+    private final Long id;
+    private final String nickname;
+
+    public AuthUserDetails(Long id, String email, String passwordHash, String nickname,
+                           Collection<? extends GrantedAuthority> authorities) {
+        super(email, passwordHash, authorities);
+        this.id = id;
+        this.nickname = nickname;
+    }
+
+    public Long getId() { return id; }
+    public String getNickname() { return nickname; }
+}
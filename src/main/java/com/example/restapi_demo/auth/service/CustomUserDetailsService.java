@@ -3,13 +3,16 @@ package com.example.restapi_demo.auth.service;
 import com.example.restapi_demo.user.model.User;
 import com.example.restapi_demo.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -21,13 +24,31 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() ->
                         new UsernameNotFoundException("사용자를 찾을 수 없습니다. email=" + email));
 
-        // UserRole.USER / ADMIN → "USER"/"ADMIN"
+        // UserRole.USER / ADMIN → "ROLE_USER" / "ROLE_ADMIN"
         String roleName = user.getRole().name();
 
-        return org.springframework.security.core.userdetails.User
-                .withUsername(user.getEmail())          // username = email
-                .password(user.getPasswordHash())       // 비밀번호 해시
-                .roles(roleName)                        // → "ROLE_USER" / "ROLE_ADMIN"
-                .build();
+        // id / nickname 까지 담아서 로그인 후 사용자를 다시 조회하지 않도록
+        return new AuthUserDetails(
+                user.getId(),
+                user.getEmail(),                        // username = email
+                user.getPasswordHash(),                 // 비밀번호 해시
+                user.getNickname(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + roleName))
+        );
+    }
+
+    /**
+     * 로그인 성공 후 해시 cost/형식이 설정과 다를 때 호출됨 (newPassword 는 이미 인코딩된 값)
+     * - 비밀번호 변경이 아니라 같은 비밀번호의 재해시이므로 UserService.changePassword 를 거치지 않고 저장만 한다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        if (!(user instanceof AuthUserDetails details)) return user;
+
+        return userRepository.updatePassword(details.getId(), newPassword)
+                .<UserDetails>map(u -> new AuthUserDetails(
+                        u.getId(), u.getEmail(), u.getPasswordHash(), u.getNickname(), details.getAuthorities()))
+                .orElse(user);
     }
 }
@@ -0,0 +1,135 @@
+package com.example.restapi_demo.auth.service;
+
+import com.example.restapi_demo.auth.model.RefreshToken;
+import com.example.restapi_demo.auth.repository.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급 / 회전 / 폐기
+ * - 토큰 원문은 256bit 난수(base64url), 저장소에는 SHA-256 만 둔다.
+ * - 회전: 쓴 토큰은 사용 표시하고 같은 family 로 새 토큰을 발급
+ * - 재사용 감지: 이미 쓴 토큰이 다시 오면 탈취로 보고 family 전체를 폐기 (정상 사용자도 다시 로그인)
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenStore store;
+    private final Duration ttl;
+
+    public RefreshTokenService(RefreshTokenStore store,
+                               @Value("${auth.refresh-token.ttl-days:14}") long ttlDays) {
+        this.store = store;
+        this.ttl = Duration.ofDays(Math.max(1, ttlDays));
+    }
+
+    public record Issued(String token, LocalDateTime expiresAt) {}
+
+    public enum Status { ROTATED, INVALID, REUSED }
+
+    /**
+     * 회전 결과 - ROTATED 일 때만 userId, next 가 채워진다.
+     */
+    public record Rotation(Status status, Long userId, Issued next) {}
+
+    /**
+     * 로그인 시 새 family 로 발급
+     */
+    public Issued issue(Long userId) {
+        return issueInFamily(userId, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 쓰고 새 토큰으로 교체
+     * - 없거나 만료/폐기된 토큰: INVALID
+     * - 이미 쓴 토큰: family 전체 폐기 후 REUSED
+     */
+    @Transactional
+    public Rotation rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) return new Rotation(Status.INVALID, null, null);
+
+        String hash = hash(rawToken);
+        Optional<RefreshToken> found = store.findByTokenHash(hash);
+        if (found.isEmpty()) return new Rotation(Status.INVALID, null, null);
+
+        RefreshToken token = found.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (token.getRevoked() || token.getExpiresAt().isBefore(now)) {
+            return new Rotation(Status.INVALID, null, null);
+        }
+
+        if (!store.markUsed(hash, now)) {
+            int revoked = store.revokeFamily(token.getFamilyId());
+            log.warn("리프레시 토큰 재사용 감지 → family 폐기: userId={}, family={}, revoked={}",
+                    token.getUserId(), token.getFamilyId(), revoked);
+            return new Rotation(Status.REUSED, null, null);
+        }
+
+        Issued next = issueInFamily(token.getUserId(), token.getFamilyId());
+        return new Rotation(Status.ROTATED, token.getUserId(), next);
+    }
+
+    /**
+     * 로그아웃 - 이 토큰이 속한 family 전체 폐기
+     */
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) return;
+        store.findByTokenHash(hash(rawToken))
+                .ifPresent(t -> store.revokeFamily(t.getFamilyId()));
+    }
+
+    /**
+     * 탈퇴 / 비밀번호 변경 - 사용자의 모든 리프레시 토큰 폐기
+     */
+    public void revokeAllForUser(Long userId) {
+        if (userId == null) return;
+        store.revokeAllByUser(userId);
+    }
+
+    @Scheduled(cron = "${auth.refresh-token.cleanup-cron:0 0 * * * *}")
+    public void deleteExpired() {
+        int deleted = store.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) log.info("만료된 리프레시 토큰 정리: {}건", deleted);
+    }
+
+    private Issued issueInFamily(Long userId, String familyId) {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        store.save(RefreshToken.builder()
+                .tokenHash(hash(raw))
+                .familyId(familyId)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .build());
+        return new Issued(raw, expiresAt);
+    }
+
+    private static String hash(String raw) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.restapi_demo.auth.throttle;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 시도 제한 (token bucket) - 클라이언트 IP 별, 이메일 별로 따로 센다.
+ * - 인증(BCrypt) 전에 확인해서, 거절된 요청은 비밀번호 해시까지 가지 않는다.
+ * - 버킷 하나는 AtomicLong 하나("버킷이 가득 차는 시각")로 표현하고 CAS 로 갱신 → 락 없음
+ *   토큰 1개 = refill 간격만큼의 시간, 용량 = 그 시간의 capacity 배
+ * - 버킷 맵은 Caffeine (최대 키 수 + 마지막 접근 후 idle 시간이 지나면 제거)
+ *   제거된 키는 다음 시도 때 가득 찬 버킷으로 다시 시작하는데, idle 시간이 충분히 길면 그때는 어차피 가득 차 있다.
+ */
+@Component
+public class LoginRateLimiter implements StatsSource {
+
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final Cache<String, Bucket> ipBuckets;
+    private final Cache<String, Bucket> emailBuckets;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByEmail = new LongAdder();
+
+    @Autowired
+    public LoginRateLimiter(@Value("${auth.login-rate-limit.enabled:true}") boolean enabled,
+                            @Value("${auth.login-rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${auth.login-rate-limit.ip.refill-per-minute:10}") int ipRefillPerMinute,
+                            @Value("${auth.login-rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${auth.login-rate-limit.email.refill-per-minute:2}") int emailRefillPerMinute,
+                            @Value("${auth.login-rate-limit.max-keys:100000}") long maxKeys,
+                            @Value("${auth.login-rate-limit.idle-seconds:900}") long idleSeconds) {
+        this(enabled, new Limit(ipCapacity, ipRefillPerMinute), new Limit(emailCapacity, emailRefillPerMinute),
+                maxKeys, idleSeconds, System::nanoTime);
+    }
+
+    LoginRateLimiter(boolean enabled, Limit ipLimit, Limit emailLimit,
+                     long maxKeys, long idleSeconds, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.ipLimit = ipLimit;
+        this.emailLimit = emailLimit;
+        this.nanoClock = nanoClock;
+        this.ipBuckets = newBucketMap(maxKeys, idleSeconds);
+        this.emailBuckets = newBucketMap(maxKeys, idleSeconds);
+    }
+
+    private static Cache<String, Bucket> newBucketMap(long maxKeys, long idleSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    /**
+     * 버킷 설정 - capacity 개까지 몰아서 허용, 이후 분당 refillPerMinute 개
+     */
+    record Limit(int capacity, int refillPerMinute) {
+        Limit {
+            capacity = Math.max(1, capacity);
+            refillPerMinute = Math.max(1, refillPerMinute);
+        }
+
+        long nanosPerToken() {
+            return TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        }
+    }
+
+    /**
+     * 토큰 버킷 하나
+     * - fullAt: 지금부터 토큰이 하나도 안 쓰였다면 버킷이 가득 찼을 시각 (과거면 이미 가득 참)
+     * - 토큰 하나를 쓰면 fullAt 이 nanosPerToken 만큼 뒤로 밀린다.
+     *   fullAt - now 가 (capacity - 1) 토큰 분량을 넘으면 남은 토큰이 없는 것
+     */
+    private static final class Bucket {
+        private final AtomicLong fullAt;
+
+        Bucket(long now) {
+            this.fullAt = new AtomicLong(now);
+        }
+
+        /** 토큰을 쓰면 0, 없으면 다음 토큰까지 남은 nanos */
+        long tryConsume(Limit limit, long now) {
+            long perToken = limit.nanosPerToken();
+            long tolerance = perToken * (limit.capacity() - 1);
+            while (true) {
+                long current = fullAt.get();
+                long base = Math.max(current, now);
+                long wait = base - now - tolerance;
+                if (wait > 0) return wait;
+                if (fullAt.compareAndSet(current, base + perToken)) return 0;
+            }
+        }
+    }
+
+    /**
+     * 로그인 시도 하나를 허용할지 결정 - IP 먼저, 다음 이메일
+     * - 허용이면 0, 거절이면 Retry-After 로 쓸 초 (1 이상)
+     */
+    public long tryAcquire(String clientIp, String email) {
+        if (!enabled) return 0;
+        long now = nanoClock.getAsLong();
+
+        if (clientIp != null) {
+            long wait = consume(ipBuckets, clientIp, ipLimit, now);
+            if (wait > 0) {
+                rejectedByIp.increment();
+                return toRetryAfterSeconds(wait);
+            }
+        }
+        if (email != null) {
+            long wait = consume(emailBuckets, normalizeEmail(email), emailLimit, now);
+            if (wait > 0) {
+                rejectedByEmail.increment();
+                return toRetryAfterSeconds(wait);
+            }
+        }
+        allowed.increment();
+        return 0;
+    }
+
+    private static long consume(Cache<String, Bucket> buckets, String key, Limit limit, long now) {
+        return buckets.get(key, k -> new Bucket(now)).tryConsume(limit, now);
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    // 대소문자/앞뒤 공백만 다른 이메일은 같은 버킷
+    private static String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String statsName() {
+        return "login-rate-limiter";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("enabled", enabled);
+        m.put("ipKeys", ipBuckets.estimatedSize());
+        m.put("emailKeys", emailBuckets.estimatedSize());
+        m.put("allowed", allowed.sum());
+        m.put("rejectedByIp", rejectedByIp.sum());
+        m.put("rejectedByEmail", rejectedByEmail.sum());
+        return m;
+    }
+}
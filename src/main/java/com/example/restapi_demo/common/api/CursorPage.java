@@ -0,0 +1,58 @@
+package com.example.restapi_demo.common.api;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 데이터.
+ * - 전체 개수(count 쿼리)는 계산하지 않고, 다음 페이지 존재 여부와 커서만 내려준다.
+ */
+@Schema(description = "커서 기반 목록 응답 데이터")
+public class CursorPage<T> {
+
+    @Schema(description = "목록 데이터")
+    private List<T> content;
+
+    @Schema(description = "요청한 페이지 크기", example = "10")
+    private int size;
+
+    @Schema(description = "다음 페이지 요청 시 그대로 전달할 커서 (마지막 페이지면 null)", example = "MjAyNS0xMC0xOVQxNToyMDoxMHwxMDE")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public CursorPage() {}
+
+    public CursorPage(List<T> content, int size, String nextCursor, boolean hasNext) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * size + 1 개를 조회한 결과로 페이지를 만든다.
+     * - 한 개가 더 있으면 다음 페이지가 있는 것으로 보고 잘라낸다.
+     * - 커서는 잘라낸 뒤 마지막 행 기준으로 만든다.
+     */
+    public static <R, T> CursorPage<T> from(List<R> rows, int size,
+                                            Function<R, T> mapper,
+                                            Function<R, PageCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = (hasNext && !page.isEmpty())
+                ? cursorOf.apply(page.get(page.size() - 1)).encode()
+                : null;
+
+        return new CursorPage<>(page.stream().map(mapper).toList(), size, nextCursor, hasNext);
+    }
+
+    public List<T> getContent() { return content; }
+    public int getSize() { return size; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return hasNext; }
+}
@@ -0,0 +1,63 @@
+package com.example.restapi_demo.common.api;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이지네이션용 불투명 커서.
+ * - 마지막으로 내려준 행의 (createdAt, id) 를 base64url 로 감싸서 클라이언트에 전달한다.
+ * - 클라이언트는 값을 해석하지 않고 다음 요청에 그대로 돌려주기만 하면 된다.
+ * - id 만으로 정렬하는 목록은 createdAt 없이 id 만 담는다.
+ */
+public final class PageCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private PageCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static PageCursor of(LocalDateTime createdAt, Long id) {
+        return new PageCursor(createdAt, id);
+    }
+
+    public static PageCursor ofId(Long id) {
+        return new PageCursor(null, id);
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Long getId() { return id; }
+
+    public boolean hasCreatedAt() { return createdAt != null; }
+
+    public String encode() {
+        String raw = (createdAt == null ? "" : createdAt.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 잘못된 커서(변조, 다른 형식)는 예외 대신 null 을 반환한다.
+     * - 컨트롤러에서 400(invalid_cursor)으로 바꿔서 응답
+     */
+    public static PageCursor decode(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(SEPARATOR);
+            if (sep < 0) return null;
+
+            String datePart = raw.substring(0, sep);
+            Long id = Long.valueOf(raw.substring(sep + 1));
+            LocalDateTime createdAt = datePart.isEmpty() ? null : LocalDateTime.parse(datePart);
+            return new PageCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.restapi_demo.common.api;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Profile({"default", "dev"}) // DbCheckController 와 동일하게 운영(prod)에서는 비활성화
+@RestController
+public class StatsController {
+
+    private final List<StatsSource> sources;
+
+    public StatsController(List<StatsSource> sources) {
+        this.sources = sources;
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<Object>> all() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        for (StatsSource source : sources) {
+            data.put(source.statsName(), source.stats());
+        }
+        return ResponseEntity.ok(new ApiResponse<>("read_success", data));
+    }
+
+    @GetMapping("/stats/{name}")
+    public ResponseEntity<ApiResponse<Object>> one(@PathVariable String name) {
+        return sources.stream()
+                .filter(s -> s.statsName().equals(name))
+                .findFirst()
+                .map(s -> ResponseEntity.ok(new ApiResponse<Object>("read_success", s.stats())))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ApiResponse<>("stats_not_found", null)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.restapi_demo.common.api;
+
+import java.util.Map;
+
+/**
+ * 캐시/버퍼 등 인메모리 컴포넌트의 운영 지표 제공자
+ * - 구현체는 Bean 으로 등록만 하면 StatsController 에서 자동으로 노출된다.
+ */
+public interface StatsSource {
+
+    /** /stats/{name} 경로에 쓰이는 이름 */
+    String statsName();
+
+    Map<String, Object> stats();
+}
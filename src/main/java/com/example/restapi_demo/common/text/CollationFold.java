@@ -0,0 +1,62 @@
+package com.example.restapi_demo.common.text;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * DB collation(utf8mb4_0900_ai_ci, 대소문자/악센트 무시)에 맞춘 문자열 정규화
+ * - 인메모리 필터/색인이 DB 와 같은 값을 같게 보도록 키를 만들 때 사용한다.
+ * - NFKD → 소문자 → 결합 문자 제거 → ß/æ/œ 같은 확장 문자 풀기 → NFC(한글 자모를 다시 음절로)
+ * - collation 을 완전히 흉내내지는 않는다. 더 넓게 접는 쪽으로만 어긋나도록(오탐만 생기도록) 맞춘다.
+ */
+public final class CollationFold {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    // NFKD 로 풀리지 않지만 collation 은 기본 글자와 같게 보는 문자들
+    private static final Map<Character, String> EXPANSIONS = Map.ofEntries(
+            Map.entry('ß', "ss"),
+            Map.entry('æ', "ae"),
+            Map.entry('œ', "oe"),
+            Map.entry('ø', "o"),
+            Map.entry('đ', "d"),
+            Map.entry('ð', "d"),
+            Map.entry('ł', "l"),
+            Map.entry('ħ', "h"),
+            Map.entry('ı', "i"),
+            Map.entry('þ', "th")
+    );
+
+    private CollationFold() {}
+
+    public static String fold(String value) {
+        if (value == null) return "";
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD).toLowerCase(Locale.ROOT);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+
+        StringBuilder sb = new StringBuilder(stripped.length());
+        for (int i = 0; i < stripped.length(); i++) {
+            char ch = stripped.charAt(i);
+            String expanded = EXPANSIONS.get(ch);
+            if (expanded != null) sb.append(expanded);
+            else sb.append(ch);
+        }
+        return Normalizer.normalize(sb, Normalizer.Form.NFC);
+    }
+
+    /**
+     * fold 결과가 ASCII 와 한글(음절/자모)로만 이뤄졌는지 - 이 범위에서는 fold 가 collation 보다 좁지 않다
+     */
+    public static boolean isFullyFolded(String folded) {
+        for (int i = 0; i < folded.length(); i++) {
+            char ch = folded.charAt(i);
+            if (ch < 0x80) continue;
+            if (ch >= 0xAC00 && ch <= 0xD7A3) continue;   // 한글 음절
+            if (ch >= 0x1100 && ch <= 0x11FF) continue;   // 한글 자모
+            return false;
+        }
+        return true;
+    }
+}
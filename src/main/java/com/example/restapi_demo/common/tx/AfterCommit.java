@@ -0,0 +1,27 @@
+package com.example.restapi_demo.common.tx;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행할 작업 등록 헬퍼
+ * - 캐시/인메모리 인덱스 갱신은 DB 커밋이 확정된 뒤에 반영해야 롤백 시 어긋나지 않는다.
+ * - 트랜잭션 밖에서 호출되면 바로 실행한다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {}
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
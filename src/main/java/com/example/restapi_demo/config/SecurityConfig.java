@@ -1,10 +1,13 @@
 package com.example.restapi_demo.config;
 
+import com.example.restapi_demo.auth.crypto.BoundedPasswordEncoder;
+import com.example.restapi_demo.auth.crypto.TunableBCryptPasswordEncoder;
 import com.example.restapi_demo.auth.handler.JwtAccessDeniedHandler;
 import com.example.restapi_demo.auth.handler.JwtAuthenticationEntryPoint;
 import com.example.restapi_demo.auth.jwt.JwtFilter;
 import com.example.restapi_demo.auth.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,7 +18,7 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -24,6 +27,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
@@ -36,16 +40,34 @@ public class SecurityConfig {
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
+    /**
+     * BCrypt 는 전용 스레드 풀 + 제한된 대기열에서 실행 (로그인 폭주 시 요청 스레드가 전부 해시에 묶이지 않도록)
+     * - 반환 타입을 구현 클래스로 두어 StatsSource 목록에도 잡히게 한다.
+     * - 새 해시는 "{bcrypt}" 접두어 + 설정한 cost 로 만든다.
+     *   접두어 없는 기존 해시도 BCrypt 로 검증하고, 로그인 성공 시 새 형식/cost 로 다시 저장된다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(
+            @Value("${auth.password-hashing.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${auth.password-hashing.threads:0}") int threads,
+            @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hashing.wait-timeout-ms:2000}") long waitTimeoutMillis,
+            @Value("${auth.password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        TunableBCryptPasswordEncoder bcrypt = new TunableBCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegating,
+                threads, queueCapacity, waitTimeoutMillis, retryAfterSeconds);
     }
 
     @Bean
-    public AuthenticationManager authenticationManager() {
+    public AuthenticationManager authenticationManager(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(customUserDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
+        // 로그인 성공 시 cost/형식이 다른 해시는 다시 저장 (UserDetailsPasswordService)
+        provider.setUserDetailsPasswordService(customUserDetailsService);
         return new ProviderManager(provider);
     }
 
@@ -105,10 +127,13 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/users/count/nickname").permitAll()
                         // ★ 닉네임 검색: 비로그인 허용
                         .requestMatchers(HttpMethod.GET, "/api/users/search/nickname").permitAll()
+                        // 작성자별 게시글 목록: 비로그인 허용
+                        .requestMatchers(HttpMethod.GET, "/api/users/*/posts").permitAll()
 
                         // 로그인 / 로그아웃
                         .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/logout").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/refresh").permitAll()
 
                         // 게시글 조회: 비로그인 허용
                         .requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
@@ -2,6 +2,8 @@ package com.example.restapi_demo.post.controller;
 
 import com.example.restapi_demo.auth.jwt.CustomUserPrincipal;
 import com.example.restapi_demo.common.api.ApiResponse;
+import com.example.restapi_demo.common.api.CursorPage;
+import com.example.restapi_demo.common.api.PageCursor;
 import com.example.restapi_demo.post.dto.*;
 import com.example.restapi_demo.post.model.Post;
 import com.example.restapi_demo.post.service.PostService;
@@ -16,11 +18,15 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/posts")
 public class PostController {
 
+    // 좋아요 여부 일괄 조회 시 한 번에 받을 수 있는 게시글 수
+    private static final int MAX_LIKED_LOOKUP_IDS = 100;
+
     private final PostService postService;
 
     // UserService 의존 제거 (JWT의 principal만 사용)
@@ -72,7 +78,15 @@ public class PostController {
         return (nickname != null && !nickname.isBlank()) ? nickname : defaultName;
     }
 
-    @Operation(summary = "게시글 목록 조회", description = "전체 게시글 목록을 조회합니다.")
+    // 로그인 상태면 목록의 각 게시글에 likedByMe 를 채운다 (쿼리 1번)
+    private void markLikedByMe(List<PostSummary> posts) {
+        Long me = currentUserIdOrNull();
+        if (me != null) postService.markLikedByMe(me, posts);
+    }
+
+    @Operation(summary = "게시글 목록 조회",
+            description = "전체 게시글 목록을 조회합니다. cursor 파라미터를 보내면(첫 페이지는 빈 값) 커서 모드로 동작하며, "
+                    + "전체 개수 없이 nextCursor/hasNext 를 반환합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "200", description = "조회 성공",
@@ -85,11 +99,24 @@ public class PostController {
     @GetMapping
     public ResponseEntity<ApiResponse<Object>> list(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
     ) {
         try {
+            // 커서 모드: 깊은 페이지에서도 OFFSET 스캔/count 쿼리 없이 조회
+            if (cursor != null) {
+                PageCursor after = PageCursor.decode(cursor);
+                if (!cursor.isBlank() && (after == null || !after.hasCreatedAt())) {
+                    return badRequest("invalid_cursor");
+                }
+                CursorPage<PostSummary> data = postService.getPostsByCursor(after, size);
+                markLikedByMe(data.getContent());
+                return ResponseEntity.ok(new ApiResponse<>("read_success", data));
+            }
+
             // page, size를 서비스에 넘김
             PostListResponse data = postService.getPosts(page, size);
+            markLikedByMe(data.getContent());
             return ResponseEntity.ok(new ApiResponse<>("read_success", data));
         } catch (Exception e) {
             return internalError();
@@ -97,6 +124,24 @@ public class PostController {
     }
 
 
+    @Operation(summary = "좋아요 여부 일괄 조회",
+            description = "postIds 로 전달한 게시글 중 내가 좋아요 한 게시글 ID 목록을 반환합니다. (최대 100개)")
+    @GetMapping("/liked")
+    public ResponseEntity<ApiResponse<Object>> likedPostIds(@RequestParam List<Long> postIds) {
+        try {
+            CustomUserPrincipal me = currentUserOrNull();
+            if (me == null) return unauthorized();
+
+            if (postIds.size() > MAX_LIKED_LOOKUP_IDS) return badRequest("too_many_post_ids");
+
+            Set<Long> liked = postService.getLikedPostIds(me.getId(), postIds);
+            List<Long> data = postIds.stream().filter(liked::contains).distinct().toList();
+            return ResponseEntity.ok(new ApiResponse<>("read_success", Map.of("likedPostIds", data)));
+        } catch (Exception e) {
+            return internalError();
+        }
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "게시글 ID를 기반으로 상세 내용을 조회합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -122,10 +167,27 @@ public class PostController {
         }
     }
 
-    @Operation(summary = "댓글 목록 조회", description = "특정 게시글의 댓글 목록을 조회합니다.")
+    @Operation(summary = "댓글 목록 조회",
+            description = "특정 게시글의 댓글 목록을 조회합니다. limit 또는 after 를 보내면 커서 모드로 동작하며, "
+                    + "작성 순서대로 limit 개와 nextCursor/hasNext 를 반환합니다. (파라미터가 없으면 전체 목록)")
     @GetMapping("/{postId}/comments")
-    public ResponseEntity<ApiResponse<Object>> getComments(@PathVariable Long postId) {
+    public ResponseEntity<ApiResponse<Object>> getComments(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after
+    ) {
         try {
+            // 커서 모드: 댓글 수와 관계없이 한 페이지만 읽는다
+            if (limit != null || after != null) {
+                PageCursor cursor = PageCursor.decode(after);
+                if (after != null && !after.isBlank() && (cursor == null || !cursor.hasCreatedAt())) {
+                    return badRequest("invalid_cursor");
+                }
+                CursorPage<CommentResponse> data =
+                        postService.getComments(postId, cursor, limit == null ? 0 : limit);
+                return ResponseEntity.ok(new ApiResponse<>("read_success", data));
+            }
+
             Long requesterId = currentUserIdOrNull(); // 비로그인이면 null
             List<CommentResponse> comments = postService.getComments(postId, requesterId);
             return ResponseEntity.ok(new ApiResponse<>("read_success", comments));
@@ -134,30 +196,100 @@ public class PostController {
         }
     }
 
-    @Operation(summary = "제목 키워드 검색", description = "제목에 keyword가 포함된 게시글을 조회합니다. 대소문자 무시.")
+    @Operation(summary = "댓글 트리 조회",
+            description = "특정 게시글의 댓글을 답글 트리 형태로 조회합니다. 답글이 남아 있는 삭제 댓글은 deleted=true 로 자리만 유지됩니다.")
+    @GetMapping("/{postId}/comments/tree")
+    public ResponseEntity<ApiResponse<Object>> getCommentTree(@PathVariable Long postId) {
+        try {
+            List<CommentTreeNode> tree = postService.getCommentTree(postId);
+            return ResponseEntity.ok(new ApiResponse<>("read_success", tree));
+        } catch (Exception e) {
+            return internalError();
+        }
+    }
+
+    @Operation(summary = "제목 키워드 검색",
+            description = "제목에 keyword가 포함된 게시글을 최신순으로 조회합니다. 대소문자/악센트 무시. "
+                    + "기본은 게시글 목록과 같은 page/size 응답(최대 100개)이며, cursor 파라미터를 보내면(첫 페이지는 빈 값) "
+                    + "전체 개수 없이 nextCursor/hasNext 를 반환하는 커서 모드로 동작합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PostListResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
     @GetMapping("/search/title")
-    public ResponseEntity<ApiResponse<Object>> searchByTitle(@RequestParam String keyword) {
+    public ResponseEntity<ApiResponse<Object>> searchByTitle(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
+    ) {
         try {
-            var results = postService.searchByTitle(keyword);
-            return ResponseEntity.ok(new ApiResponse<>("read_success", results));
+            if (cursor != null) {
+                PageCursor before = PageCursor.decode(cursor);
+                if (isInvalidCursor(cursor, before)) return badRequest("invalid_cursor");
+
+                CursorPage<PostSummary> data = postService.searchByTitle(keyword, before, size);
+                markLikedByMe(data.getContent());
+                return ResponseEntity.ok(new ApiResponse<>("read_success", data));
+            }
+
+            PostListResponse data = postService.searchByTitle(keyword, page, size);
+            markLikedByMe(data.getContent());
+            return ResponseEntity.ok(new ApiResponse<>("read_success", data));
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ApiResponse<>("internal_server_error", null));
+            return internalError();
         }
     }
 
-    @Operation(summary = "작성자 닉네임으로 검색", description = "특정 닉네임 작성자의 게시글을 조회합니다.")
+    @Operation(summary = "작성자 닉네임으로 검색",
+            description = "특정 닉네임 작성자의 게시글을 최신순으로 조회합니다. "
+                    + "기본은 게시글 목록과 같은 page/size 응답(최대 100개)이며, cursor 파라미터를 보내면(첫 페이지는 빈 값) "
+                    + "전체 개수 없이 nextCursor/hasNext 를 반환하는 커서 모드로 동작합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PostListResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
     @GetMapping("/search/author")
-    public ResponseEntity<ApiResponse<Object>> searchByAuthor(@RequestParam String nickname) {
+    public ResponseEntity<ApiResponse<Object>> searchByAuthor(
+            @RequestParam String nickname,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor
+    ) {
         try {
-            var results = postService.findByAuthorNickname(nickname);
-            return ResponseEntity.ok(new ApiResponse<>("read_success", results));
+            if (cursor != null) {
+                PageCursor before = PageCursor.decode(cursor);
+                if (isInvalidCursor(cursor, before)) return badRequest("invalid_cursor");
+
+                CursorPage<PostSummary> data = postService.findByAuthorNickname(nickname, before, size);
+                markLikedByMe(data.getContent());
+                return ResponseEntity.ok(new ApiResponse<>("read_success", data));
+            }
+
+            PostListResponse data = postService.findByAuthorNickname(nickname, page, size);
+            markLikedByMe(data.getContent());
+            return ResponseEntity.ok(new ApiResponse<>("read_success", data));
         } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(new ApiResponse<>("internal_server_error", null));
+            return internalError();
         }
     }
 
+    // 검색 커서는 게시글 목록과 같은 (createdAt, id) 형식 (빈 값은 첫 페이지)
+    private static boolean isInvalidCursor(String raw, PageCursor decoded) {
+        if (raw.isBlank()) return false;
+        return decoded == null || !decoded.hasCreatedAt();
+    }
+
     @Operation(summary = "게시글 생성", description = "새로운 게시글을 작성합니다. 제목은 최대 26자.")
     @PostMapping
     public ResponseEntity<ApiResponse<Object>> createPost(@RequestBody Map<String, String> req) {
@@ -275,7 +407,7 @@ public class PostController {
         }
     }
 
-    @Operation(summary = "댓글 작성", description = "게시글에 새로운 댓글을 작성합니다.")
+    @Operation(summary = "댓글 작성", description = "게시글에 새로운 댓글을 작성합니다. parent_id 를 보내면 해당 댓글의 답글로 작성합니다.")
     @PostMapping("/{postId}/comments")
     public ResponseEntity<ApiResponse<Object>> createComment(
             @PathVariable Long postId,
@@ -289,9 +421,15 @@ public class PostController {
                 return badRequest("invalid_request");
             }
 
+            // 답글이면 부모 댓글이 같은 게시글의 (삭제되지 않은) 댓글이어야 한다
+            Long parentId = request.getParent_id();
+            if (parentId != null && !postService.isCommentOfPost(postId, parentId)) {
+                return badRequest("invalid_parent");
+            }
+
             String nickname = currentUserNicknameOrDefault("나");
 
-            CommentResponse data = postService.createComment(postId, me.getId(), nickname, request.getContent());
+            CommentResponse data = postService.createComment(postId, me.getId(), nickname, request.getContent(), parentId);
             if (data == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(new ApiResponse<>("post_not_found", null));
@@ -0,0 +1,145 @@
+package com.example.restapi_demo.post.controller;
+
+import com.example.restapi_demo.auth.jwt.CustomUserPrincipal;
+import com.example.restapi_demo.common.api.ApiResponse;
+import com.example.restapi_demo.common.api.CursorPage;
+import com.example.restapi_demo.common.api.PageCursor;
+import com.example.restapi_demo.post.dto.MyCommentResponse;
+import com.example.restapi_demo.post.dto.PostSummary;
+import com.example.restapi_demo.post.service.PostService;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 사용자 기준 게시글/댓글/좋아요 목록
+ * - 프로필 화면용, 게시글 서비스만 사용하므로 post 패키지에 둔다.
+ */
+@RestController
+@RequestMapping("/api/users")
+public class UserPostController {
+
+    private final PostService postService;
+
+    public UserPostController(PostService postService) {
+        this.postService = postService;
+    }
+
+    @Operation(summary = "작성자별 게시글 목록",
+            description = "특정 사용자가 작성한 게시글을 최신순으로 조회합니다. "
+                    + "size 개(최대 100)와 nextCursor/hasNext 를 반환하며, 다음 페이지는 nextCursor 를 cursor 로 전달합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "invalid_cursor"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "user_not_found"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/{userId}/posts")
+    public ResponseEntity<ApiResponse<Object>> listByAuthor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        try {
+            PageCursor after = PageCursor.decode(cursor);
+            if (cursor != null && !cursor.isBlank() && (after == null || !after.hasCreatedAt())) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ApiResponse<>("invalid_cursor", null));
+            }
+
+            CursorPage<PostSummary> data = postService.getPostsByAuthor(userId, after, size);
+            if (data == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ApiResponse<>("user_not_found", null));
+            }
+
+            // 로그인 상태면 likedByMe 를 채운다 (쿼리 1번)
+            Long me = currentUserIdOrNull();
+            if (me != null) postService.markLikedByMe(me, data.getContent());
+
+            return ResponseEntity.ok(new ApiResponse<>("read_success", data));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>("internal_server_error", null));
+        }
+    }
+
+    @Operation(summary = "내 댓글 목록",
+            description = "로그인한 사용자가 작성한 댓글을 최신순으로 조회합니다. 각 댓글에 게시글 id/제목이 포함됩니다. "
+                    + "size 개(최대 100)와 nextCursor/hasNext 를 반환하며, 다음 페이지는 nextCursor 를 cursor 로 전달합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "invalid_cursor"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "auth_required"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/me/comments")
+    public ResponseEntity<ApiResponse<Object>> myComments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        try {
+            Long me = currentUserIdOrNull();
+            if (me == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new ApiResponse<>("auth_required", null));
+            }
+
+            PageCursor after = PageCursor.decode(cursor);
+            if (cursor != null && !cursor.isBlank() && (after == null || !after.hasCreatedAt())) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ApiResponse<>("invalid_cursor", null));
+            }
+
+            CursorPage<MyCommentResponse> data = postService.getMyComments(me, after, size);
+            return ResponseEntity.ok(new ApiResponse<>("read_success", data));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>("internal_server_error", null));
+        }
+    }
+
+    @Operation(summary = "좋아요 한 게시글 목록",
+            description = "로그인한 사용자가 좋아요 한 게시글을 최근 좋아요 순으로 조회합니다. "
+                    + "size 개(최대 100)와 nextCursor/hasNext 를 반환하며, 다음 페이지는 nextCursor 를 cursor 로 전달합니다.")
+    @io.swagger.v3.oas.annotations.responses.ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "invalid_cursor"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "auth_required"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/me/likes")
+    public ResponseEntity<ApiResponse<Object>> myLikes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        try {
+            Long me = currentUserIdOrNull();
+            if (me == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new ApiResponse<>("auth_required", null));
+            }
+
+            PageCursor after = PageCursor.decode(cursor);
+            if (cursor != null && !cursor.isBlank() && (after == null || !after.hasCreatedAt())) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ApiResponse<>("invalid_cursor", null));
+            }
+
+            CursorPage<PostSummary> data = postService.getLikedPosts(me, after, size);
+            return ResponseEntity.ok(new ApiResponse<>("read_success", data));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>("internal_server_error", null));
+        }
+    }
+
+    private Long currentUserIdOrNull() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) return null;
+        return (auth.getPrincipal() instanceof CustomUserPrincipal custom) ? custom.getId() : null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.restapi_demo.post.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "댓글 트리 노드 (답글은 replies 에 작성 순서대로 포함)")
+public class CommentTreeNode {
+
+    @Schema(description = "댓글 ID", example = "101")
+    private Long comment_id;
+    @Schema(description = "부모 댓글 ID (최상위 댓글이면 null)", example = "100", nullable = true)
+    private Long parent_id;
+    @Schema(description = "댓글 작성자명", example = "박성현")
+    private String author;
+    @Schema(description = "댓글 내용 (삭제된 댓글이면 null)", example = "답글입니다")
+    private String content;
+    @Schema(description = "삭제 여부 (답글이 남아 있어 자리만 유지되는 댓글)", example = "false")
+    private boolean deleted;
+    @Schema(description = "댓글 작성 시각", example = "2025-10-19T15:20:00")
+    private LocalDateTime created_at;
+    @Schema(description = "답글 목록")
+    private final List<CommentTreeNode> replies = new ArrayList<>();
+
+    public CommentTreeNode(Long comment_id, Long parent_id, String author, String content,
+                           boolean deleted, LocalDateTime created_at) {
+        this.comment_id = comment_id;
+        this.parent_id = parent_id;
+        this.author = author;
+        this.content = content;
+        this.deleted = deleted;
+        this.created_at = created_at;
+    }
+
+    public Long getComment_id() { return comment_id; }
+    public Long getParent_id() { return parent_id; }
+    public String getAuthor() { return author; }
+    public String getContent() { return content; }
+    public boolean isDeleted() { return deleted; }
+    public LocalDateTime getCreated_at() { return created_at; }
+    public List<CommentTreeNode> getReplies() { return replies; }
+}
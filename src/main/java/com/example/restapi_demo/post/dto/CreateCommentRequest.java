@@ -13,6 +13,13 @@ public class CreateCommentRequest {
     )
     private String content;
 
+    @Schema(
+            description = "답글을 달 부모 댓글 ID (최상위 댓글이면 생략)",
+            example = "101",
+            nullable = true
+    )
+    private Long parent_id;
+
     public CreateCommentRequest() {}
     public CreateCommentRequest(String content) {
         this.content = content;
@@ -20,4 +27,7 @@ public class CreateCommentRequest {
 
     public String getContent() { return content; }
     public void setContent(String content) { this.content = content; } // 선택(있으면 직렬화/문서화에 유리)
+
+    public Long getParent_id() { return parent_id; }
+    public void setParent_id(Long parent_id) { this.parent_id = parent_id; }
 }
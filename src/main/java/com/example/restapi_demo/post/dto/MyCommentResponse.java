@@ -0,0 +1,35 @@
+package com.example.restapi_demo.post.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "내가 작성한 댓글 (댓글이 달린 게시글 정보 포함)")
+public class MyCommentResponse {
+
+    @Schema(description = "댓글 ID", example = "101")
+    private Long comment_id;
+    @Schema(description = "게시글 ID", example = "1")
+    private Long post_id;
+    @Schema(description = "게시글 제목", example = "오늘의 일기")
+    private String post_title;
+    @Schema(description = "댓글 내용", example = "댓글입니다")
+    private String content;
+    @Schema(description = "댓글 작성 시각", example = "2025-10-19T15:20:00")
+    private LocalDateTime created_at;
+
+    public MyCommentResponse(Long comment_id, Long post_id, String post_title,
+                             String content, LocalDateTime created_at) {
+        this.comment_id = comment_id;
+        this.post_id = post_id;
+        this.post_title = post_title;
+        this.content = content;
+        this.created_at = created_at;
+    }
+
+    public Long getComment_id() { return comment_id; }
+    public Long getPost_id() { return post_id; }
+    public String getPost_title() { return post_title; }
+    public String getContent() { return content; }
+    public LocalDateTime getCreated_at() { return created_at; }
+}
@@ -1,5 +1,6 @@
 package com.example.restapi_demo.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 
@@ -28,6 +29,10 @@ public class PostSummary {
     @Schema(description = "게시글 작성 시각", example = "2025-10-19T15:20:00")
     private LocalDateTime createdAt;
 
+    @Schema(description = "내가 좋아요 했는지 여부 (로그인한 경우에만 포함)", example = "true", nullable = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
+
     public PostSummary() {}
 
     public PostSummary(Long postId, String title, String author,
@@ -48,4 +53,7 @@ public class PostSummary {
     public int getComments() { return comments; }
     public int getViews() { return views; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public Boolean getLikedByMe() { return likedByMe; }
+
+    public void setLikedByMe(Boolean likedByMe) { this.likedByMe = likedByMe; }
 }
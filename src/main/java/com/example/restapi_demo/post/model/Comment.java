@@ -39,6 +39,11 @@ public class Comment {
             foreignKey = @ForeignKey(name = "fk_comments_parent"))
     private Comment parent;
 
+    // 부모 댓글 id 만 필요할 때(트리 조립) parent 를 로딩하지 않도록 같은 컬럼을 읽기 전용으로 매핑
+    @JsonIgnore
+    @Column(name = "parent_comment_id", insertable = false, updatable = false)
+    private Long parentId;
+
     @Lob
     @Column(name = "content", nullable = false, columnDefinition = "text")
     private String content;
@@ -8,7 +8,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                // 목록 커서 페이지네이션: is_deleted = false 조건 + (created_at, id) 역순 seek
+                @Index(name = "idx_posts_deleted_created_id", columnList = "is_deleted, created_at, id"),
+                // 작성자별 목록: author_id = ? and is_deleted = false 로 범위를 좁히고 created_at 역순 seek
+                // (InnoDB 보조 인덱스에는 PK(id) 가 뒤에 붙으므로 (created_at, id) 커서도 그대로 탄다)
+                @Index(name = "idx_posts_author_deleted_created", columnList = "author_id, is_deleted, created_at")
+        }
+)
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class Post {
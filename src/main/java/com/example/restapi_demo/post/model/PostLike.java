@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "post_likes",
-        indexes = @Index(name = "idx_post_likes_user", columnList = "user_id"))
+        // 좋아요 한 게시글 목록: user_id 범위를 created_at 역순으로 seek
+        // (InnoDB 보조 인덱스 뒤에 PK(post_id, user_id) 가 붙으므로 post_id 동률 처리도 인덱스 안에서 끝난다)
+        indexes = @Index(name = "idx_post_likes_user_created", columnList = "user_id, created_at"))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor @Builder
 public class PostLike {
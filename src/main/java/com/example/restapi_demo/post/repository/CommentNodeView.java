@@ -0,0 +1,16 @@
+package com.example.restapi_demo.post.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 트리 조립용 읽기 모델
+ * - 게시글의 댓글 전체를 (createdAt, id) 순으로 한 번에 읽어서 메모리에서 트리로 만든다.
+ */
+public interface CommentNodeView {
+    Long getCommentId();
+    Long getParentId();
+    String getAuthor();
+    String getContent();
+    Boolean getIsDeleted();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,14 @@
+package com.example.restapi_demo.post.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 목록용 읽기 모델 (인터페이스 프로젝션)
+ * - Comment/User 엔티티를 만들지 않고 응답에 필요한 컬럼만 읽는다.
+ */
+public interface CommentView {
+    Long getCommentId();
+    String getAuthor();
+    String getContent();
+    LocalDateTime getCreatedAt();
+}
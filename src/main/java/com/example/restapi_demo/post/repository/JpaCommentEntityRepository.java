@@ -1,10 +1,13 @@
 package com.example.restapi_demo.post.repository;
 
 import com.example.restapi_demo.post.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -15,7 +18,92 @@ public interface JpaCommentEntityRepository extends JpaRepository<Comment, Long>
         from Comment c
         join fetch c.author a
         where c.post.id = :postId
+          and c.isDeleted = false
         order by c.createdAt asc, c.id asc
     """)
     List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
+
+    /**
+     * 댓글 트리용 전체 조회 (삭제된 댓글 포함, 트리 조립 시 답글 없는 삭제 댓글은 제외)
+     */
+    @Query("""
+        select c.id as commentId, c.parentId as parentId, a.nickname as author,
+               c.content as content, c.isDeleted as isDeleted, c.createdAt as createdAt
+        from Comment c
+        join c.author a
+        where c.post.id = :postId
+        order by c.createdAt asc, c.id asc
+    """)
+    List<CommentNodeView> findNodesByPostId(@Param("postId") Long postId);
+
+    @Query("select count(c) > 0 from Comment c where c.id = :commentId and c.post.id = :postId and c.isDeleted = false")
+    boolean existsLiveInPost(@Param("commentId") Long commentId, @Param("postId") Long postId);
+
+    /**
+     * 댓글 커서 페이지 (첫 페이지)
+     * - idx_comments_post_created_at (post_id, created_at [, id]) 순서 그대로 읽고 limit 에서 멈춘다.
+     * - Pageable 은 LIMIT 용도로만 사용 (List 반환 → count 쿼리 없음)
+     */
+    @Query("""
+        select c.id as commentId, a.nickname as author, c.content as content, c.createdAt as createdAt
+        from Comment c
+        join c.author a
+        where c.post.id = :postId
+          and c.isDeleted = false
+        order by c.createdAt asc, c.id asc
+    """)
+    List<CommentView> findPageFirst(@Param("postId") Long postId, Pageable limit);
+
+    /**
+     * 댓글 커서 페이지 (다음 페이지) - (createdAt, id) 가 커서보다 뒤인 댓글부터
+     */
+    @Query("""
+        select c.id as commentId, a.nickname as author, c.content as content, c.createdAt as createdAt
+        from Comment c
+        join c.author a
+        where c.post.id = :postId
+          and c.isDeleted = false
+          and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id))
+        order by c.createdAt asc, c.id asc
+    """)
+    List<CommentView> findPageAfter(@Param("postId") Long postId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable limit);
+
+    /**
+     * 내 댓글 목록 (첫 페이지, 최신순)
+     * - idx_comments_author_created_at (author_id, created_at [, id]) 를 역순으로 읽고 limit 에서 멈춘다.
+     * - 게시글 id/제목은 posts 를 PK 로 한 번 join (삭제된 게시글의 댓글은 제외)
+     */
+    @Query("""
+        select c.id as commentId, p.id as postId, p.title as postTitle,
+               c.content as content, c.createdAt as createdAt
+        from Comment c
+        join c.post p
+        where c.author.id = :authorId
+          and c.isDeleted = false
+          and p.isDeleted = false
+        order by c.createdAt desc, c.id desc
+    """)
+    List<MyCommentView> findByAuthorFirst(@Param("authorId") Long authorId, Pageable limit);
+
+    /**
+     * 내 댓글 목록 (다음 페이지) - (createdAt, id) 가 커서보다 앞선(오래된) 댓글부터
+     */
+    @Query("""
+        select c.id as commentId, p.id as postId, p.title as postTitle,
+               c.content as content, c.createdAt as createdAt
+        from Comment c
+        join c.post p
+        where c.author.id = :authorId
+          and c.isDeleted = false
+          and p.isDeleted = false
+          and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id))
+        order by c.createdAt desc, c.id desc
+    """)
+    List<MyCommentView> findByAuthorBefore(@Param("authorId") Long authorId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable limit);
 }
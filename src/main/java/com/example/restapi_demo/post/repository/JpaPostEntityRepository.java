@@ -3,10 +3,14 @@ package com.example.restapi_demo.post.repository;
 
 import com.example.restapi_demo.post.model.Comment;
 import com.example.restapi_demo.post.model.Post;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +37,56 @@ public interface JpaPostEntityRepository extends JpaRepository<Post, Long> {
        """)
     Optional<Post> findDetailWithAuthorAndImages(@Param("postId") Long postId);
 
+    /**
+     * 오프셋 목록 (최신순) - PostSummaryView 프로젝션
+     * - users 를 한 번 join 해서 작성자 닉네임까지 한 SQL 로 조회 (N+1 없음)
+     */
+    @Query(value = """
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where p.isDeleted = false
+       order by p.createdAt desc, p.id desc
+       """,
+            countQuery = "select count(p) from Post p where p.isDeleted = false")
+    Page<PostSummaryView> findSummaries(Pageable pageable);
+
+    /**
+     * 커서 모드 첫 페이지 (최신순)
+     * - Pageable 은 LIMIT 용도로만 사용 (List 반환이라 count 쿼리 없음)
+     */
+    @Query("""
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where p.isDeleted = false
+       order by p.createdAt desc, p.id desc
+       """)
+    List<PostSummaryView> findLatest(Pageable limit);
+
+    /**
+     * 커서 모드 다음 페이지
+     * - (created_at, id) 가 커서보다 작은 행부터 seek → OFFSET 스캔 없음
+     */
+    @Query("""
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where p.isDeleted = false
+         and (p.createdAt < :createdAt
+              or (p.createdAt = :createdAt and p.id < :id))
+       order by p.createdAt desc, p.id desc
+       """)
+    List<PostSummaryView> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable limit);
+
     @Query("""
        select c
        from Comment c
@@ -42,13 +96,120 @@ public interface JpaPostEntityRepository extends JpaRepository<Post, Long> {
        """)
     List<Comment> findCommentsByPostId(@Param("postId") Long postId);
 
-    List<Post> findByTitleContainingIgnoreCaseAndIsDeletedFalse(String keyword);
-    List<Post> findByAuthor_NicknameAndIsDeletedFalse(String nickname);
+    @Query("""
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where lower(p.title) like :pattern escape '!'
+         and p.isDeleted = false
+         and p.id < :beforeId
+       order by p.id desc
+       """)
+    List<PostSummaryView> findSummariesByTitle(@Param("pattern") String pattern,
+                                               @Param("beforeId") Long beforeId,
+                                               Pageable limit);
+
+    // 제목 검색 페이지 모드 (PostListResponse 용, 전체 개수 포함)
+    @Query(value = """
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where lower(p.title) like :pattern escape '!'
+         and p.isDeleted = false
+       order by p.id desc
+       """,
+            countQuery = "select count(p) from Post p where lower(p.title) like :pattern escape '!' and p.isDeleted = false")
+    Page<PostSummaryView> findSummaryPageByTitle(@Param("pattern") String pattern, Pageable pageable);
+
+    // 작성자 검색 페이지 모드 - count 도 idx_posts_author_deleted_created 범위만 읽는다
+    @Query(value = """
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where p.author.id = :authorId
+         and p.isDeleted = false
+       order by p.createdAt desc, p.id desc
+       """,
+            countQuery = "select count(p) from Post p where p.author.id = :authorId and p.isDeleted = false")
+    Page<PostSummaryView> findSummaryPageByAuthor(@Param("authorId") Long authorId, Pageable pageable);
+
+    /**
+     * 작성자별 목록 첫 페이지 (최신순)
+     * - idx_posts_author_deleted_created 로 해당 작성자 범위만 역순으로 읽는다
+     */
+    @Query("""
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where p.author.id = :authorId
+         and p.isDeleted = false
+       order by p.createdAt desc, p.id desc
+       """)
+    List<PostSummaryView> findLatestByAuthor(@Param("authorId") Long authorId, Pageable limit);
+
+    /**
+     * 작성자별 목록 다음 페이지 - (created_at, id) 가 커서보다 작은 행부터 seek
+     */
+    @Query("""
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where p.author.id = :authorId
+         and p.isDeleted = false
+         and (p.createdAt < :createdAt
+              or (p.createdAt = :createdAt and p.id < :id))
+       order by p.createdAt desc, p.id desc
+       """)
+    List<PostSummaryView> findLatestByAuthorBefore(@Param("authorId") Long authorId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable limit);
+
+
+    // 검색 색인에서 찾은 id 들의 목록 데이터 (hydrate)
+    @Query("""
+       select p.id as postId, p.title as title, a.nickname as author,
+              p.likesCount as likes, p.commentsCount as comments, p.views as views,
+              p.createdAt as createdAt
+       from Post p
+       join p.author a
+       where p.id in :ids
+         and p.isDeleted = false
+       order by p.id desc
+       """)
+    List<PostSummaryView> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+
+    // 좋아요 카운트는 엔티티를 읽지 않고 UPDATE 한 번으로 증감 (동시 요청에도 유실 없음, 삭제된 게시글은 0 반환)
+    @Modifying
+    @Query("update Post p set p.likesCount = p.likesCount + 1 where p.id = :postId and p.isDeleted = false")
+    int incrementLikesCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("update Post p set p.likesCount = p.likesCount - 1 where p.id = :postId and p.likesCount > 0")
+    int decrementLikesCount(@Param("postId") Long postId);
+
+    // 댓글 카운트도 동일하게 UPDATE 한 번으로 증감 (삭제된 게시글에는 댓글 작성 불가 → 0 반환)
+    @Modifying
+    @Query("update Post p set p.commentsCount = p.commentsCount + 1 where p.id = :postId and p.isDeleted = false")
+    int incrementCommentsCount(@Param("postId") Long postId);
 
+    @Modifying
+    @Query("update Post p set p.commentsCount = p.commentsCount - 1 where p.id = :postId and p.commentsCount > 0")
+    int decrementCommentsCount(@Param("postId") Long postId);
 
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update Post p set p.views = coalesce(p.views, 0) + 1 where p.id = :postId")
-    int increaseViews(@Param("postId") Long postId);
+    @Query("select p.likesCount from Post p where p.id = :postId and p.isDeleted = false")
+    Optional<Integer> findLikesCount(@Param("postId") Long postId);
 
 
     @Query("select p.views from Post p where p.id = :postId")
@@ -0,0 +1,88 @@
+package com.example.restapi_demo.post.repository;
+
+import com.example.restapi_demo.post.model.PostLike;
+import com.example.restapi_demo.post.model.PostLikeId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface JpaPostLikeEntityRepository extends JpaRepository<PostLike, PostLikeId> {
+
+    /**
+     * 좋아요 행 추가 (이미 있으면 무시)
+     * - 삭제되지 않은 게시글일 때만 insert 되도록 posts 에서 select
+     * - 반환값: 실제로 추가된 행 수 (0 = 이미 좋아요 했거나 게시글 없음)
+     */
+    @Modifying
+    @Query(value = """
+        insert ignore into post_likes (post_id, user_id, created_at)
+        select p.id, :userId, :createdAt
+        from posts p
+        where p.id = :postId
+          and p.is_deleted = false
+        """, nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId,
+                     @Param("userId") Long userId,
+                     @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요 한 게시글 id
+     * - PK(post_id, user_id) 로 바로 찾으므로 게시글 수만큼 인덱스 조회 한 번
+     */
+    @Query("select l.id.postId from PostLike l where l.id.userId = :userId and l.id.postId in :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 좋아요 한 게시글 목록 (첫 페이지, 최근 좋아요 순)
+     * - idx_post_likes_user_created 를 역순으로 읽으면서 posts / users 를 PK 로 join → 한 쿼리로 목록 컬럼까지
+     * - 삭제된 게시글은 제외
+     */
+    @Query("""
+        select p.id as postId, p.title as title, a.nickname as author,
+               p.likesCount as likes, p.commentsCount as comments, p.views as views,
+               p.createdAt as createdAt, l.createdAt as likedAt
+        from PostLike l
+        join l.post p
+        join p.author a
+        where l.id.userId = :userId
+          and p.isDeleted = false
+        order by l.createdAt desc, l.id.postId desc
+        """)
+    List<LikedPostView> findLikedFirst(@Param("userId") Long userId, Pageable limit);
+
+    /**
+     * 좋아요 한 게시글 목록 (다음 페이지) - (likedAt, postId) 가 커서보다 앞선 행부터
+     */
+    @Query("""
+        select p.id as postId, p.title as title, a.nickname as author,
+               p.likesCount as likes, p.commentsCount as comments, p.views as views,
+               p.createdAt as createdAt, l.createdAt as likedAt
+        from PostLike l
+        join l.post p
+        join p.author a
+        where l.id.userId = :userId
+          and p.isDeleted = false
+          and (l.createdAt < :likedAt
+               or (l.createdAt = :likedAt and l.id.postId < :postId))
+        order by l.createdAt desc, l.id.postId desc
+        """)
+    List<LikedPostView> findLikedBefore(@Param("userId") Long userId,
+                                        @Param("likedAt") LocalDateTime likedAt,
+                                        @Param("postId") Long postId,
+                                        Pageable limit);
+
+    /**
+     * 좋아요 행 삭제, 반환값: 실제로 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from PostLike l where l.id.postId = :postId and l.id.userId = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
+}
@@ -4,14 +4,22 @@ import com.example.restapi_demo.post.model.Comment;
 import com.example.restapi_demo.post.model.Post;
 import com.example.restapi_demo.post.model.PostImage;
 import com.example.restapi_demo.user.model.User;
+import com.example.restapi_demo.user.repository.JpaUserEntityRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Repository
@@ -21,6 +29,10 @@ public class JpaPostRepositoryAdapter implements PostRepository {
 
     private final JpaPostEntityRepository postJpa;
     private final JpaCommentEntityRepository commentJpa;
+    private final JpaPostLikeEntityRepository likeJpa;
+    private final JpaUserEntityRepository userJpa;
+    private final PostDetailCache detailCache;
+    private final TitleNgramIndex titleIndex;
 
     @Override
     @Transactional(readOnly = true)
@@ -47,45 +59,141 @@ public class JpaPostRepositoryAdapter implements PostRepository {
 
     @Override
     @Transactional(readOnly = true)
-    public List<Post> findByTitleContainingIgnoreCase(String keyword) {
-        return postJpa.findByTitleContainingIgnoreCaseAndIsDeletedFalse(keyword);
+    public List<CommentView> findCommentPage(Long postId, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (afterCreatedAt == null || afterId == null) {
+            return commentJpa.findPageFirst(postId, page);
+        }
+        return commentJpa.findPageAfter(postId, afterCreatedAt, afterId, page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentNodeView> findCommentNodes(Long postId) {
+        return commentJpa.findNodesByPostId(postId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MyCommentView> findCommentsByAuthor(Long authorId, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (beforeCreatedAt == null || beforeId == null) {
+            return commentJpa.findByAuthorFirst(authorId, page);
+        }
+        return commentJpa.findByAuthorBefore(authorId, beforeCreatedAt, beforeId, page);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isCommentOfPost(Long commentId, Long postId) {
+        if (commentId == null || postId == null) return false;
+        return commentJpa.existsLiveInPost(commentId, postId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSummaryView> findSummariesByTitle(String keyword, Long beforeId, int limit) {
+        return postJpa.findSummariesByTitle(containsPattern(keyword), upperBound(beforeId), PageRequest.of(0, limit));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<Post> findByAuthorNickname(String nickname) {
-        return postJpa.findByAuthor_NicknameAndIsDeletedFalse(nickname);
+    public Page<PostSummaryView> findSummaryPageByTitle(String keyword, Pageable pageable) {
+        return postJpa.findSummaryPageByTitle(containsPattern(keyword), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PostSummaryView> findSummaryPageByAuthor(Long authorId, Pageable pageable) {
+        return postJpa.findSummaryPageByAuthor(authorId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findAuthorIdByNickname(String nickname) {
+        if (nickname == null || nickname.isBlank()) return Optional.empty();
+        return userJpa.findIdByNickname(nickname);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsAuthor(Long authorId) {
+        return authorId != null && userJpa.existsById(authorId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSummaryView> findSummariesByAuthor(Long authorId, LocalDateTime beforeCreatedAt, Long beforeId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (beforeCreatedAt == null || beforeId == null) {
+            return postJpa.findLatestByAuthor(authorId, page);
+        }
+        return postJpa.findLatestByAuthorBefore(authorId, beforeCreatedAt, beforeId, page);
+    }
+
+    // 첫 페이지는 "id < Long.MAX_VALUE" 로 같은 쿼리를 재사용
+    private static Long upperBound(Long beforeId) {
+        return (beforeId == null) ? Long.MAX_VALUE : beforeId;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostSummaryView> findSummariesByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        return postJpa.findSummariesByIds(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LikedPostView> findLikedPosts(Long userId, LocalDateTime beforeLikedAt, Long beforePostId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (beforeLikedAt == null || beforePostId == null) {
+            return likeJpa.findLikedFirst(userId, page);
+        }
+        return likeJpa.findLikedBefore(userId, beforeLikedAt, beforePostId, page);
+    }
+
+    /**
+     * LIKE '%keyword%' 패턴 생성 (대소문자 무시)
+     * - 기존 파생 쿼리(Containing)와 같게 %, _ 는 문자 그대로 검색되도록 '!' 로 escape
+     */
+    private static String containsPattern(String keyword) {
+        String k = (keyword == null) ? "" : keyword.toLowerCase(Locale.ROOT);
+        String escaped = k.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return "%" + escaped + "%";
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<DetailSeed> findDetailById(Long postId) {
-        return postJpa.findDetailWithAuthorAndImages(postId).map(p -> {
-            Long authorId = (p.getAuthor() != null) ? p.getAuthor().getId() : null;
-            String authorName = (p.getAuthor() != null) ? p.getAuthor().getNickname() : null;
-
-            List<String> images = (p.getImages() == null) ? List.of()
-                    : p.getImages().stream()
-                    .sorted((a, b) -> Integer.compare(
-                            a.getSortOrder() == null ? 0 : a.getSortOrder(),
-                            b.getSortOrder() == null ? 0 : b.getSortOrder()))
-                    .map(PostImage::getUrl)
-                    .collect(Collectors.toList());
-
-            return new DetailSeed(
-                    p.getId(),
-                    authorId,
-                    p.getTitle(),
-                    authorName,
-                    p.getContent(),
-                    images,
-                    p.getLikesCount(),
-                    p.getViews(),
-                    p.getCommentsCount(),
-                    p.getCreatedAt(),
-                    p.getUpdatedAt()
-            );
-        });
+        return detailCache.get(postId, id -> postJpa.findDetailWithAuthorAndImages(id).map(this::toDetailSeed));
+    }
+
+    private DetailSeed toDetailSeed(Post p) {
+        Long authorId = (p.getAuthor() != null) ? p.getAuthor().getId() : null;
+        String authorName = (p.getAuthor() != null) ? p.getAuthor().getNickname() : null;
+
+        List<String> images = (p.getImages() == null) ? List.of()
+                : p.getImages().stream()
+                .sorted((a, b) -> Integer.compare(
+                        a.getSortOrder() == null ? 0 : a.getSortOrder(),
+                        b.getSortOrder() == null ? 0 : b.getSortOrder()))
+                .map(PostImage::getUrl)
+                .collect(Collectors.toList());
+
+        return new DetailSeed(
+                p.getId(),
+                authorId,
+                p.getTitle(),
+                authorName,
+                p.getContent(),
+                images,
+                p.getLikesCount(),
+                p.getViews(),
+                p.getCommentsCount(),
+                p.getCreatedAt(),
+                p.getUpdatedAt()
+        );
     }
 
     @Override
@@ -93,55 +201,70 @@ public class JpaPostRepositoryAdapter implements PostRepository {
         return postJpa.findById(postId).map(p -> {
             p.setIsDeleted(true);
             postJpa.save(p);
+            detailCache.invalidate(postId);
+            titleIndex.onDeleted(postId);
             return true;
         }).orElse(false);
     }
 
+    /**
+     * 좋아요: post_likes insert 1번 + (실제로 추가됐을 때만) 카운트 UPDATE 1번 + 응답용 카운트 SELECT 1번
+     * - 같은 사용자가 다시 눌러도 카운트는 그대로
+     * - 응답에 현재 좋아요 수가 들어가는데, MySQL 은 UPDATE ... RETURNING 이 없어서 바뀐 값을 다시 읽는다.
+     *   (아무것도 안 바뀐 경우에도 "이미 좋아요" 와 "게시글 없음" 을 구분하려면 어차피 읽어야 한다)
+     */
     @Override
-    public Optional<Integer> incrementLikes(Long postId) {
-        return postJpa.findById(postId).map(p -> {
-            p.setLikesCount((p.getLikesCount() == null ? 0 : p.getLikesCount()) + 1);
-            postJpa.save(p);
-            return p.getLikesCount();
-        });
+    public Optional<Integer> incrementLikes(Long postId, Long userId) {
+        int inserted = likeJpa.insertIgnore(postId, userId, LocalDateTime.now());
+        boolean changed = inserted > 0 && postJpa.incrementLikesCount(postId) > 0;
+        return currentLikes(postId, changed);
     }
 
     @Override
-    public Optional<Integer> decrementLikes(Long postId) {
-        return postJpa.findById(postId).map(p -> {
-            int now = Math.max(0, (p.getLikesCount() == null ? 0 : p.getLikesCount()) - 1);
-            p.setLikesCount(now);
-            postJpa.save(p);
-            return p.getLikesCount();
-        });
+    public Optional<Integer> decrementLikes(Long postId, Long userId) {
+        int deleted = likeJpa.deleteByPostIdAndUserId(postId, userId);
+        boolean changed = deleted > 0 && postJpa.decrementLikesCount(postId) > 0;
+        return currentLikes(postId, changed);
     }
 
     @Override
-    public Optional<Comment> addComment(Long postId, Long authorId, String authorName, String content) {
-        return postJpa.findById(postId).map(p -> {
-            User author = User.builder()
-                    .id(authorId)
-                    .nickname(authorName)
-                    .build();
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds == null || postIds.isEmpty()) return Set.of();
+        return new HashSet<>(likeJpa.findLikedPostIds(userId, postIds));
+    }
 
-            Comment c = Comment.builder()
-                    .post(p)
-                    .author(author)
-                    .content(content)
-                    .build();
+    // 카운트가 바뀌면 상세 캐시는 지운다 (커밋 후 패치는 다른 요청의 재적재/다른 커밋과 순서가 뒤섞일 수 있음)
+    private Optional<Integer> currentLikes(Long postId, boolean changed) {
+        if (changed) detailCache.invalidate(postId);
+        return postJpa.findLikesCount(postId);
+    }
 
-            Comment saved = commentJpa.save(c);
+    /**
+     * 댓글 작성: 카운트 UPDATE 1번 + 댓글 INSERT 1번
+     * - 게시글/작성자/부모는 getReferenceById 로 id 만 가진 참조를 사용 (SELECT 없음)
+     * - UPDATE 결과가 0 이면 없는(또는 삭제된) 게시글
+     */
+    @Override
+    public Optional<Comment> addComment(Long postId, Long authorId, String authorName, String content, Long parentId) {
+        if (postJpa.incrementCommentsCount(postId) == 0) return Optional.empty();
 
-            p.setCommentsCount((p.getCommentsCount() == null ? 0 : p.getCommentsCount()) + 1);
-            postJpa.save(p);
+        Comment c = Comment.builder()
+                .post(postJpa.getReferenceById(postId))
+                .author(userJpa.getReferenceById(authorId))
+                .parent(parentId == null ? null : commentJpa.getReferenceById(parentId))
+                .content(content)
+                .build();
 
-            return saved;
-        });
+        Comment saved = commentJpa.save(c);
+        detailCache.invalidate(postId);
+        return Optional.of(saved);
     }
 
     @Override
     public Optional<Comment> updateComment(Long postId, Long commentId, Long requesterId, String newContent) {
         return commentJpa.findById(commentId)
+                .filter(c -> !Boolean.TRUE.equals(c.getIsDeleted()))
                 .filter(c ->
                         Objects.equals(c.getPost().getId(), postId) &&
                                 c.getAuthor() != null &&
@@ -156,16 +279,17 @@ public class JpaPostRepositoryAdapter implements PostRepository {
     @Override
     public boolean deleteComment(Long postId, Long commentId, Long requesterId) {
         return commentJpa.findById(commentId)
+                .filter(c -> !Boolean.TRUE.equals(c.getIsDeleted()))
                 .filter(c ->
                         Objects.equals(c.getPost().getId(), postId) &&
                                 c.getAuthor() != null &&
                                 Objects.equals(c.getAuthor().getId(), requesterId))
                 .map(c -> {
-                    commentJpa.delete(c);
-                    Post p = c.getPost();
-                    int now = Math.max(0, (p.getCommentsCount() == null ? 0 : p.getCommentsCount()) - 1);
-                    p.setCommentsCount(now);
-                    postJpa.save(p);
+                    // 항상 자리만 남긴다 (soft delete)
+                    // 답글 유무를 보고 지우면 그 사이 달린 답글이 부모를 잃는다 → 답글 없는 자리는 트리 조립 때 걸러진다
+                    c.setIsDeleted(true);
+                    postJpa.decrementCommentsCount(postId);
+                    detailCache.invalidate(postId);
                     return true;
                 })
                 .orElse(false);
@@ -198,31 +322,10 @@ public class JpaPostRepositoryAdapter implements PostRepository {
 
             p.setUpdatedAt(LocalDateTime.now());
             Post saved = postJpa.save(p);
+            detailCache.invalidate(postId);
+            if (newTitle != null) titleIndex.onSaved(postId, saved.getTitle());
 
-            Long authorId = (saved.getAuthor() != null) ? saved.getAuthor().getId() : null;
-            String authorName = (saved.getAuthor() != null) ? saved.getAuthor().getNickname() : null;
-
-            List<String> images = (saved.getImages() == null) ? List.of()
-                    : saved.getImages().stream()
-                    .sorted((a, b) -> Integer.compare(
-                            a.getSortOrder() == null ? 0 : a.getSortOrder(),
-                            b.getSortOrder() == null ? 0 : b.getSortOrder()))
-                    .map(PostImage::getUrl)
-                    .collect(Collectors.toList());
-
-            return new DetailSeed(
-                    saved.getId(),
-                    authorId,
-                    saved.getTitle(),
-                    authorName,
-                    saved.getContent(),
-                    images,
-                    saved.getLikesCount(),
-                    saved.getViews(),
-                    saved.getCommentsCount(),
-                    saved.getCreatedAt(),
-                    saved.getUpdatedAt()
-            );
+            return toDetailSeed(saved);
         });
     }
 
@@ -254,6 +357,8 @@ public class JpaPostRepositoryAdapter implements PostRepository {
             p.getImages().add(img);
         }
 
-        return Optional.of(postJpa.save(p));
+        Post saved = postJpa.save(p);
+        titleIndex.onSaved(saved.getId(), saved.getTitle());
+        return Optional.of(saved);
     }
 }
\ No newline at end of file
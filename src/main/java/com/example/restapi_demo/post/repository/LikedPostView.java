@@ -0,0 +1,11 @@
+package com.example.restapi_demo.post.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좋아요 한 게시글 목록용 읽기 모델
+ * - 게시글 목록 컬럼 + 좋아요 한 시각 (커서는 (likedAt, postId))
+ */
+public interface LikedPostView extends PostSummaryView {
+    LocalDateTime getLikedAt();
+}
@@ -0,0 +1,15 @@
+package com.example.restapi_demo.post.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 댓글 목록용 읽기 모델
+ * - 댓글과 게시글 id/제목을 posts 한 번 join 으로 같이 읽는다 (Comment.post 지연 로딩 없음)
+ */
+public interface MyCommentView {
+    Long getCommentId();
+    Long getPostId();
+    String getPostTitle();
+    String getContent();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,76 @@
+package com.example.restapi_demo.post.repository;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import com.example.restapi_demo.common.tx.AfterCommit;
+import com.example.restapi_demo.post.repository.PostRepository.DetailSeed;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세(DetailSeed) 읽기 캐시
+ * - 최대 개수 + TTL 로 제한 (인기글 몇 개가 트래픽 대부분을 차지하므로 작게 잡아도 효과가 큼)
+ * - 같은 키의 동시 miss 는 한 번만 DB 를 조회한다 (Caffeine compute).
+ * - 쓰기 경로(수정/삭제, 좋아요/댓글 수 변경)는 무효화한다. 지금 한 번 + 커밋 후 한 번
+ *   (캐시 값을 커밋 후 고쳐 쓰면, 그 사이 새 값으로 다시 채워진 항목에 변경이 두 번 반영될 수 있어 쓰지 않는다)
+ */
+@Component
+public class PostDetailCache implements StatsSource {
+
+    private final Cache<Long, DetailSeed> cache;
+
+    public PostDetailCache(@Value("${posts.detail-cache.max-size:10000}") long maxSize,
+                           @Value("${posts.detail-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader 로 읽어서 저장 (없는 게시글은 저장하지 않음)
+     */
+    public Optional<DetailSeed> get(Long postId, Function<Long, Optional<DetailSeed>> loader) {
+        if (postId == null) return Optional.empty();
+        return Optional.ofNullable(cache.get(postId, id -> loader.apply(id).orElse(null)));
+    }
+
+    /**
+     * 게시글 수정/삭제, 카운트 변경 시 무효화
+     * - 지금 한 번, 커밋 후 한 번 더 지운다.
+     *   (커밋 전에 다른 요청이 옛 값을 다시 채워 넣는 경우를 막기 위해)
+     */
+    public void invalidate(Long postId) {
+        if (postId == null) return;
+        cache.invalidate(postId);
+        AfterCommit.run(() -> cache.invalidate(postId));
+    }
+
+    @Override
+    public String statsName() {
+        return "post-detail-cache";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        CacheStats s = cache.stats();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("size", cache.estimatedSize());
+        m.put("hits", s.hitCount());
+        m.put("misses", s.missCount());
+        m.put("hitRate", s.hitRate());
+        m.put("evictions", s.evictionCount());
+        m.put("loadSuccess", s.loadSuccessCount());
+        m.put("loadFailure", s.loadFailureCount());
+        return m;
+    }
+}
@@ -2,11 +2,14 @@ package com.example.restapi_demo.post.repository;
 
 import com.example.restapi_demo.post.model.Comment;
 import com.example.restapi_demo.post.model.Post;
-import lombok.Setter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface PostRepository {
 
@@ -14,8 +17,21 @@ public interface PostRepository {
     List<Post> findAll();
     Post save(Post post);
 
-    List<Post> findByTitleContainingIgnoreCase(String keyword);
-    List<Post> findByAuthorNickname(String nickname);
+    // 제목 검색은 id 내림차순, beforeId 보다 작은 id 부터 limit 개 (beforeId 가 null 이면 처음부터)
+    List<PostSummaryView> findSummariesByTitle(String keyword, Long beforeId, int limit);
+    // 제목 검색 페이지 모드 (id 내림차순, 전체 개수 포함)
+    Page<PostSummaryView> findSummaryPageByTitle(String keyword, Pageable pageable);
+
+    // 작성자별 목록은 (created_at, id) 내림차순, 커서가 null 이면 첫 페이지
+    Optional<Long> findAuthorIdByNickname(String nickname);
+    boolean existsAuthor(Long authorId);
+    List<PostSummaryView> findSummariesByAuthor(Long authorId, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+    Page<PostSummaryView> findSummaryPageByAuthor(Long authorId, Pageable pageable);
+
+    List<PostSummaryView> findSummariesByIds(Collection<Long> ids);
+
+    // 사용자가 좋아요 한 게시글, (좋아요 시각, post_id) 내림차순 (커서가 null 이면 첫 페이지)
+    List<LikedPostView> findLikedPosts(Long userId, LocalDateTime beforeLikedAt, Long beforePostId, int limit);
 
 
     Optional<DetailSeed> findDetailById(Long postId);
@@ -25,14 +41,23 @@ public interface PostRepository {
     boolean deleteById(Long postId);
 
     List<Comment> findCommentsByPostId(Long postId);
+    // 커서(createdAt, id) 다음부터 limit 개, 커서가 null 이면 처음부터
+    List<CommentView> findCommentPage(Long postId, LocalDateTime afterCreatedAt, Long afterId, int limit);
+    // 트리 조립용: 게시글의 댓글 전체를 (createdAt, id) 순으로 한 번에
+    List<CommentNodeView> findCommentNodes(Long postId);
+    // 사용자가 작성한 댓글, (created_at, id) 내림차순 (커서가 null 이면 첫 페이지)
+    List<MyCommentView> findCommentsByAuthor(Long authorId, LocalDateTime beforeCreatedAt, Long beforeId, int limit);
+    boolean isCommentOfPost(Long commentId, Long postId);
 
 
 
-    Optional<Integer> incrementLikes(Long postId);
-    Optional<Integer> decrementLikes(Long postId);
+    // 사용자별 좋아요 (중복 좋아요/취소는 카운트 변화 없이 현재 값 반환)
+    Optional<Integer> incrementLikes(Long postId, Long userId);
+    Optional<Integer> decrementLikes(Long postId, Long userId);
+    Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds);
 
 
-    Optional<Comment> addComment(Long postId, Long authorId, String authorName, String content);
+    Optional<Comment> addComment(Long postId, Long authorId, String authorName, String content, Long parentId);
     Optional<Comment> updateComment(Long postId, Long commentId, Long requesterId, String newContent);
     boolean deleteComment(Long postId, Long commentId, Long requesterId);
 
@@ -41,19 +66,22 @@ public interface PostRepository {
     Optional<Post> createPost(Long authorId, String authorName, String title, String content, String image);
 
 
+    /**
+     * 게시글 상세 스냅샷 (불변)
+     * - 상세 캐시에 그대로 저장되므로 setter 를 두지 않는다. 좋아요/댓글 수가 바뀌면 사본을 고치지 않고 캐시 항목을 무효화한다.
+     */
     class DetailSeed {
-        private Long postId;
-        private Long authorId;
-        private String title;
-        private String authorName;
-        private String content;
-        @Setter
-        private List<String> images;
-        private int likesCount;       // <- 필드명 정리
-        private int views;
-        private int commentsCount;
-        private LocalDateTime createdAt;
-        private LocalDateTime updatedAt;
+        private final Long postId;
+        private final Long authorId;
+        private final String title;
+        private final String authorName;
+        private final String content;
+        private final List<String> images;
+        private final int likesCount;       // <- 필드명 정리
+        private final int views;
+        private final int commentsCount;
+        private final LocalDateTime createdAt;
+        private final LocalDateTime updatedAt;
 
         public DetailSeed(
                 Long postId,
@@ -73,7 +101,7 @@ public interface PostRepository {
             this.title = title;
             this.authorName = authorName;
             this.content = content;
-            this.images = images;
+            this.images = (images == null) ? List.of() : List.copyOf(images);
             this.likesCount = likesCount;
             this.views = views;
             this.commentsCount = commentsCount;
@@ -92,12 +120,5 @@ public interface PostRepository {
         public int getCommentsCount() { return commentsCount; }
         public LocalDateTime getCreatedAt() { return createdAt; }
         public LocalDateTime getUpdatedAt() { return updatedAt; }
-
-        public void setTitle(String title) { this.title = title; }
-        public void setContent(String content) { this.content = content; }
-
-        public void setLikesCount(int likesCount) { this.likesCount = likesCount; }
-        public void setCommentsCount(int commentsCount) { this.commentsCount = commentsCount; }
-        public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     }
 }
@@ -0,0 +1,19 @@
+package com.example.restapi_demo.post.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 읽기 모델 (인터페이스 프로젝션)
+ * - 목록에 필요한 7개 컬럼만 select → content(longtext) 는 읽지 않음
+ * - 작성자 닉네임은 users 를 한 번 join 해서 가져오므로 게시글마다 User 를 lazy 로딩하지 않는다.
+ * - 쿼리의 select 별칭(as postId ...)이 getter 이름과 일치해야 한다.
+ */
+public interface PostSummaryView {
+    Long getPostId();
+    String getTitle();
+    String getAuthor();
+    Integer getLikes();
+    Integer getComments();
+    Integer getViews();
+    LocalDateTime getCreatedAt();
+}
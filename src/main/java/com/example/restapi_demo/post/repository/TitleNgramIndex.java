@@ -0,0 +1,302 @@
+package com.example.restapi_demo.post.repository;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import com.example.restapi_demo.common.text.CollationFold;
+import com.example.restapi_demo.common.tx.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목 검색용 인메모리 bigram 역색인
+ * - 제목을 DB collation 처럼 접은 뒤(CollationFold: 대소문자/악센트 무시) 연속된 두 글자(bigram)마다
+ *   게시글 id 목록(정렬된 long[])을 유지한다. 형태소 분석 없이도 한글 부분 검색이 되고,
+ *   색인 준비 전후로 DB LIKE 검색과 같은 게시글이 나온다.
+ * - 검색: 검색어의 bigram 목록들을 짧은 것부터 교집합 → 실제 제목에 검색어가 포함되는지 확인 (bigram 만으로는 순서를 보장하지 않음)
+ * - 한 글자 검색은 bigram 이 없어 전체 제목을 읽기 락 아래에서 훑어야 하므로 색인에서 처리하지 않고 DB 로 넘긴다.
+ * - 시작 시(ApplicationReadyEvent) posts 를 chunk 단위로 읽어 만들고, 이후에는 게시글 작성/수정/삭제 커밋 후 반영한다.
+ *   빌드가 끝나기 전에는 search 가 빈 Optional 을 반환하고 호출 측은 DB 검색을 사용한다.
+ */
+@Slf4j
+@Component
+public class TitleNgramIndex implements StatsSource {
+
+    private static final String SELECT_CHUNK = """
+            select id, title
+            from posts
+            where id > ? and is_deleted = false
+            order by id
+            limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int buildChunkSize;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private final TreeMap<Long, String> titles = new TreeMap<>();
+
+    // 빌드 중 삭제된 게시글 (빌드가 이미 읽어 둔 옛 행을 다시 넣지 않도록)
+    private final Set<Long> tombstones = new HashSet<>();
+    private volatile boolean building;
+    private volatile boolean ready;
+    private volatile long lastBuildMillis;
+
+    public TitleNgramIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${posts.title-index.build-chunk-size:2000}") int buildChunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buildChunkSize = Math.max(1, buildChunkSize);
+    }
+
+    /** bigram 하나에 대한 게시글 id 목록 (오름차순, 새 글은 대부분 끝에 추가됨) */
+    private static final class Postings {
+        long[] ids = new long[4];
+        int size;
+
+        void add(long id) {
+            if (size == 0 || ids[size - 1] < id) {
+                grow();
+                ids[size++] = id;
+                return;
+            }
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos >= 0) return;
+            pos = -pos - 1;
+            grow();
+            System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+            ids[pos] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int pos = Arrays.binarySearch(ids, 0, size, id);
+            if (pos < 0) return;
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            size--;
+        }
+
+        boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void grow() {
+            if (size == ids.length) ids = Arrays.copyOf(ids, ids.length * 2);
+        }
+    }
+
+    // ===== 빌드 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            building = true;
+            ready = false;
+            tombstones.clear();
+            titles.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            long lastId = 0;
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(SELECT_CHUNK,
+                        (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2)},
+                        lastId, buildChunkSize);
+                if (rows.isEmpty()) break;
+
+                lock.writeLock().lock();
+                try {
+                    for (Object[] row : rows) {
+                        Long id = (Long) row[0];
+                        // 빌드 중 들어온 작성/수정(이미 최신 제목이 있음)과 삭제는 건너뜀
+                        if (titles.containsKey(id) || tombstones.contains(id)) continue;
+                        putLocked(id, (String) row[1]);
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+                if (rows.size() < buildChunkSize) break;
+            }
+
+            lock.writeLock().lock();
+            try {
+                tombstones.clear();
+                building = false;
+                ready = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastBuildMillis = System.currentTimeMillis() - started;
+            log.info("제목 검색 색인 빌드 완료: 게시글 {}건, bigram {}개, {}ms", titles.size(), postings.size(), lastBuildMillis);
+        } catch (RuntimeException e) {
+            building = false;
+            log.warn("제목 검색 색인 빌드 실패, DB 검색을 계속 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    // ===== 변경 반영 (커밋 후) =====
+
+    public void onSaved(Long postId, String title) {
+        if (postId == null || title == null) return;
+        AfterCommit.run(() -> put(postId, title));
+    }
+
+    public void onDeleted(Long postId) {
+        if (postId == null) return;
+        AfterCommit.run(() -> remove(postId));
+    }
+
+    void put(Long postId, String title) {
+        lock.writeLock().lock();
+        try {
+            putLocked(postId, title);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            if (building) tombstones.add(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(Long postId, String title) {
+        removeLocked(postId);
+        String normalized = normalize(title);
+        titles.put(postId, normalized);
+        for (int gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> new Postings()).add(postId);
+        }
+    }
+
+    private void removeLocked(Long postId) {
+        String old = titles.remove(postId);
+        if (old == null) return;
+        for (int gram : grams(old)) {
+            Postings p = postings.get(gram);
+            if (p == null) continue;
+            p.remove(postId);
+            if (p.size == 0) postings.remove(gram);
+        }
+    }
+
+    // ===== 검색 =====
+
+    /**
+     * 제목에 keyword 가 포함된 게시글 id 를 최신(id 큰) 순으로 최대 limit 개
+     * - beforeId 가 있으면 그보다 작은 id 부터 (커서 페이지)
+     * - 색인이 아직 준비되지 않았거나 한 글자 검색이면 빈 Optional (호출 측이 DB 검색 사용)
+     */
+    public Optional<List<Long>> search(String keyword, Long beforeId, int limit) {
+        if (!ready) return Optional.empty();
+
+        String q = normalize(keyword);
+        if (q.isEmpty() || limit <= 0) return Optional.of(List.of());
+        if (q.length() == 1) return Optional.empty();
+
+        long before = (beforeId == null) ? Long.MAX_VALUE : beforeId;
+        lock.readLock().lock();
+        try {
+            return Optional.of(intersect(q, before, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> intersect(String q, long before, int limit) {
+        List<Postings> lists = new ArrayList<>();
+        for (int gram : grams(q)) {
+            Postings p = postings.get(gram);
+            if (p == null) return List.of();
+            lists.add(p);
+        }
+        lists.sort(Comparator.comparingInt(p -> p.size));
+
+        Postings smallest = lists.get(0);
+        int start = Arrays.binarySearch(smallest.ids, 0, smallest.size, before);
+        start = (start >= 0) ? start - 1 : -start - 2;   // before 보다 작은 마지막 위치
+
+        List<Long> result = new ArrayList<>();
+        for (int i = start; i >= 0 && result.size() < limit; i--) {
+            long id = smallest.ids[i];
+            boolean inAll = true;
+            for (int j = 1; j < lists.size() && inAll; j++) {
+                inAll = lists.get(j).contains(id);
+            }
+            if (inAll && titles.get(id).contains(q)) result.add(id);
+        }
+        return result;
+    }
+
+    // ===== 공통 =====
+
+    private static String normalize(String s) {
+        return CollationFold.fold(s);
+    }
+
+    // 중복 없는 bigram 목록, 두 글자를 int 하나로 묶어서 키로 사용
+    private static Set<Integer> grams(String s) {
+        Set<Integer> out = new HashSet<>();
+        for (int i = 0; i + 1 < s.length(); i++) {
+            out.add((s.charAt(i) << 16) | s.charAt(i + 1));
+        }
+        return out;
+    }
+
+    @Override
+    public String statsName() {
+        return "title-ngram-index";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        lock.readLock().lock();
+        try {
+            long entries = 0;
+            for (Postings p : postings.values()) entries += p.size;
+
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("ready", ready);
+            m.put("building", building);
+            m.put("posts", titles.size());
+            m.put("grams", postings.size());
+            m.put("postingEntries", entries);
+            m.put("lastBuildMillis", lastBuildMillis);
+            return m;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
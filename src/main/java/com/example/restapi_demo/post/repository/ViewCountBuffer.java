@@ -0,0 +1,208 @@
+package com.example.restapi_demo.post.repository;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회수 write-behind 버퍼
+ * - 요청마다 UPDATE + SELECT 하던 것을 게시글별 LongAdder 에 모아 두고,
+ *   주기적으로 "views = views + ?" 배치 UPDATE 로 한 번에 반영한다.
+ * - 응답 값은 (DB 에서 읽은 값 + 반영된 증가분) + 아직 반영 안 된 증가분
+ * - 종료 시(@PreDestroy) 남은 증가분을 한 번 더 flush 한다.
+ * - 한동안 조회가 없는 게시글 카운터는 정리한다. 정리 직전에 들어온 증가분은 다음 flush 때 함께 반영된다.
+ *   정리된 카운터를 이미 손에 쥔 요청이 나중에 증가시키면, 그 요청이 카운터를 다시 retired 대기열에 넣는다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer implements StatsSource {
+
+    private static final String FLUSH_SQL = "update posts set views = views + ? where id = ?";
+
+    private final JpaPostEntityRepository postJpa;
+    private final JdbcTemplate jdbcTemplate;
+    private final int idleFlushesBeforeRetire;
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+    private final Queue<Counter> retired = new ConcurrentLinkedQueue<>();
+
+    // 통계
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushedViews = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+    private volatile long lastFlushMillis;
+
+    public ViewCountBuffer(JpaPostEntityRepository postJpa,
+                           JdbcTemplate jdbcTemplate,
+                           @Value("${posts.views.idle-flushes-before-retire:60}") int idleFlushesBeforeRetire) {
+        this.postJpa = postJpa;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idleFlushesBeforeRetire = Math.max(1, idleFlushesBeforeRetire);
+    }
+
+    private static final class Counter {
+        final Long postId;
+        final AtomicLong base;                    // DB 에 반영된 것으로 보는 조회수
+        final LongAdder pending = new LongAdder(); // 아직 flush 안 된 증가분
+        volatile boolean retired;                  // counters 에서 빠졌음 (flush 스레드만 true 로 바꿈)
+        int idleFlushes;                           // flush 스레드에서만 접근
+
+        Counter(Long postId, long base) {
+            this.postId = postId;
+            this.base = new AtomicLong(base);
+        }
+
+        int current() {
+            return (int) (base.get() + pending.sum());
+        }
+    }
+
+    /**
+     * 조회수 1 증가 후 현재 조회수 반환 (게시글이 없으면 null)
+     * - 카운터가 없을 때만 DB 에서 현재 값을 한 번 읽는다.
+     */
+    public Integer increment(Long postId) {
+        if (postId == null) return null;
+
+        Counter c = counters.get(postId);
+        if (c == null) {
+            Optional<Integer> dbViews = postJpa.findViews(postId);
+            if (dbViews.isEmpty()) return null;
+            long base = (dbViews.get() == null) ? 0 : dbViews.get();
+            c = counters.computeIfAbsent(postId, id -> new Counter(id, base));
+        }
+        c.pending.increment();
+        // 그 사이 정리된 카운터라면 이 증가분이 남지 않도록 다시 대기열에 넣는다 (중복으로 들어가도 빈 값은 건너뜀)
+        if (c.retired) retired.offer(c);
+        return c.current();
+    }
+
+    /**
+     * 버퍼에 카운터가 있으면 (반영된 값 + 대기 중인 증가분), 없으면 null
+     * - 상세 조회에서 스냅샷(캐시)의 조회수 대신 사용
+     */
+    public Integer currentViews(Long postId) {
+        if (postId == null) return null;
+        Counter c = counters.get(postId);
+        return (c == null) ? null : c.current();
+    }
+
+    @Scheduled(fixedDelayString = "${posts.views.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int rows = flush();
+        log.info("조회수 버퍼 종료 flush: {}건", rows);
+    }
+
+    /**
+     * 대기 중인 증가분을 배치 UPDATE 로 반영, 반영한 행 수 반환
+     */
+    public synchronized int flush() {
+        List<Counter> drained = new ArrayList<>();
+        List<Long> deltas = new ArrayList<>();
+
+        // 1) 이전 flush 에서 정리된 카운터에 남은 증가분
+        Counter r;
+        while ((r = retired.poll()) != null) {
+            long d = r.pending.sumThenReset();
+            if (d > 0) {
+                drained.add(r);
+                deltas.add(d);
+            }
+        }
+
+        // 2) 살아있는 카운터
+        for (Map.Entry<Long, Counter> e : counters.entrySet()) {
+            Counter c = e.getValue();
+            long d = c.pending.sumThenReset();
+            if (d > 0) {
+                c.base.addAndGet(d);
+                c.idleFlushes = 0;
+                drained.add(c);
+                deltas.add(d);
+            } else if (++c.idleFlushes >= idleFlushesBeforeRetire) {
+                // 플래그를 먼저 세워야 제거 이후의 증가가 모두 플래그를 본다
+                c.retired = true;
+                if (counters.remove(e.getKey(), c)) {
+                    retired.add(c);
+                } else {
+                    c.retired = false;
+                }
+            }
+        }
+
+        if (drained.isEmpty()) return 0;
+
+        List<Object[]> args = new ArrayList<>(drained.size());
+        for (int i = 0; i < drained.size(); i++) {
+            args.add(new Object[]{deltas.get(i), drained.get(i).postId});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+        } catch (Exception ex) {
+            // 실패한 증가분은 되돌려서 다음 flush 때 다시 시도
+            for (int i = 0; i < drained.size(); i++) {
+                Counter c = drained.get(i);
+                long d = deltas.get(i);
+                c.pending.add(d);
+                if (counters.get(c.postId) == c) {
+                    c.base.addAndGet(-d);
+                } else {
+                    retired.add(c);
+                }
+            }
+            flushFailures.incrementAndGet();
+            log.warn("조회수 flush 실패 ({}건), 다음 주기에 재시도: {}", drained.size(), ex.getMessage());
+            return 0;
+        }
+
+        flushCount.incrementAndGet();
+        flushedRows.addAndGet(drained.size());
+        flushedViews.addAndGet(deltas.stream().mapToLong(Long::longValue).sum());
+        lastFlushMillis = System.currentTimeMillis();
+        return drained.size();
+    }
+
+    @Override
+    public String statsName() {
+        return "view-count-buffer";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        long pending = 0;
+        for (Counter c : counters.values()) pending += c.pending.sum();
+        for (Counter c : retired) pending += c.pending.sum();
+
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("counters", counters.size());
+        m.put("pendingViews", pending);
+        m.put("flushes", flushCount.get());
+        m.put("flushedRows", flushedRows.get());
+        m.put("flushedViews", flushedViews.get());
+        m.put("flushFailures", flushFailures.get());
+        m.put("lastFlushMillis", lastFlushMillis);
+        return m;
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.restapi_demo.post.service;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import com.example.restapi_demo.post.repository.PostDetailCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 비정규화 카운트(likes_count, comments_count) 보정 작업
+ * - posts 를 id 순으로 chunk 단위로 읽고, 같은 id 범위의 post_likes / comments 를 group by 로 집계해서 비교
+ * - chunk 의 posts 행은 같은 트랜잭션 안에서 for update 로 읽는다.
+ *   좋아요/댓글 변경은 카운트 update 에서 이 행 락을 기다리므로, 집계하는 동안 카운트와 실제 행 수가 함께 멈춰 있다.
+ *   (락 없이 읽으면 읽은 값 5 → 좋아요 6 → 집계 6 → 취소 5 순서에서 where likes_count = 5 가 통과해 6 으로 틀어진다)
+ * - 값이 다른 행만, 읽었던 값이 그대로일 때만(where 조건) 고친다. 락 아래에서는 어긋날 일이 없지만
+ *   혹시 0건이면 skipped 로 세고 다음 실행 때 다시 본다.
+ * - chunk 마다 별도 트랜잭션(락은 chunk 동안만) + 사이사이 쉬어서 평소 트래픽과 락/IO 를 다투지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class PostCounterReconciler implements StatsSource {
+
+    private static final String SELECT_CHUNK = """
+            select id, likes_count, comments_count
+            from posts
+            where id > ?
+            order by id
+            limit ?
+            for update
+            """;
+
+    private static final String COUNT_LIKES = """
+            select post_id, count(*)
+            from post_likes
+            where post_id between ? and ?
+            group by post_id
+            """;
+
+    private static final String COUNT_COMMENTS = """
+            select post_id, count(*)
+            from comments
+            where post_id between ? and ?
+              and is_deleted = false
+            group by post_id
+            """;
+
+    private static final String FIX_ROW = """
+            update posts
+            set likes_count = ?, comments_count = ?
+            where id = ? and likes_count = ? and comments_count = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+    private final PostDetailCache detailCache;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong totalFixed = new AtomicLong();
+    private volatile int lastScanned;
+    private volatile int lastFixed;
+    private volatile int lastSkipped;
+    private volatile LocalDateTime lastRunAt;
+
+    public PostCounterReconciler(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 PostDetailCache detailCache,
+                                 @Value("${posts.reconcile.enabled:true}") boolean enabled,
+                                 @Value("${posts.reconcile.chunk-size:500}") int chunkSize,
+                                 @Value("${posts.reconcile.pause-ms:200}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.detailCache = detailCache;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.pauseMillis = Math.max(0, pauseMillis);
+    }
+
+    private record PostCounts(long id, int likes, int comments) {}
+
+    private record ChunkResult(int scanned, long lastId, int fixed, int skipped) {}
+
+    @Scheduled(cron = "${posts.reconcile.cron:0 30 4 * * *}")
+    public void scheduledRun() {
+        if (!enabled) return;
+        run();
+    }
+
+    /**
+     * 전체 게시글을 한 번 훑고 고친 행 수를 반환 (이미 실행 중이면 -1)
+     */
+    public int run() {
+        if (!running.compareAndSet(false, true)) return -1;
+        try {
+            long lastId = 0;
+            int scanned = 0;
+            int fixed = 0;
+            int skipped = 0;
+
+            while (true) {
+                long afterId = lastId;
+                ChunkResult r = tx.execute(status -> reconcileChunk(afterId));
+                if (r == null || r.scanned() == 0) break;
+
+                fixed += r.fixed();
+                skipped += r.skipped();
+                scanned += r.scanned();
+                lastId = r.lastId();
+
+                if (r.scanned() < chunkSize) break;
+                if (!pause()) break;
+            }
+
+            lastScanned = scanned;
+            lastFixed = fixed;
+            lastSkipped = skipped;
+            lastRunAt = LocalDateTime.now();
+            totalFixed.addAndGet(fixed);
+            log.info("게시글 카운트 보정 완료: 검사 {}건, 수정 {}건, 동시 변경으로 건너뜀 {}건", scanned, fixed, skipped);
+            return fixed;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ChunkResult reconcileChunk(long afterId) {
+        List<PostCounts> chunk = jdbcTemplate.query(SELECT_CHUNK,
+                (rs, i) -> new PostCounts(rs.getLong(1), rs.getInt(2), rs.getInt(3)),
+                afterId, chunkSize);
+        if (chunk.isEmpty()) return new ChunkResult(0, afterId, 0, 0);
+
+        long from = chunk.get(0).id();
+        long to = chunk.get(chunk.size() - 1).id();
+
+        Map<Long, Integer> likes = countByPost(COUNT_LIKES, from, to);
+        Map<Long, Integer> comments = countByPost(COUNT_COMMENTS, from, to);
+
+        List<Object[]> fixes = new ArrayList<>();
+        List<Long> fixedIds = new ArrayList<>();
+        for (PostCounts p : chunk) {
+            int actualLikes = likes.getOrDefault(p.id(), 0);
+            int actualComments = comments.getOrDefault(p.id(), 0);
+            if (actualLikes != p.likes() || actualComments != p.comments()) {
+                fixes.add(new Object[]{actualLikes, actualComments, p.id(), p.likes(), p.comments()});
+                fixedIds.add(p.id());
+            }
+        }
+        if (fixes.isEmpty()) return new ChunkResult(chunk.size(), to, 0, 0);
+
+        int[] results = jdbcTemplate.batchUpdate(FIX_ROW, fixes);
+        int fixed = 0;
+        int skipped = 0;
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] != 0) {
+                fixed++;
+                detailCache.invalidate(fixedIds.get(i));
+            } else {
+                skipped++;
+            }
+        }
+        return new ChunkResult(chunk.size(), to, fixed, skipped);
+    }
+
+    private Map<Long, Integer> countByPost(String sql, long from, long to) {
+        Map<Long, Integer> counts = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(rs.getLong(1), rs.getInt(2)), from, to);
+        return counts;
+    }
+
+    private boolean pause() {
+        if (pauseMillis == 0) return true;
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public String statsName() {
+        return "post-counter-reconciler";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("enabled", enabled);
+        m.put("running", running.get());
+        m.put("lastRunAt", lastRunAt);
+        m.put("lastScanned", lastScanned);
+        m.put("lastFixed", lastFixed);
+        m.put("lastSkipped", lastSkipped);
+        m.put("totalFixed", totalFixed.get());
+        return m;
+    }
+}
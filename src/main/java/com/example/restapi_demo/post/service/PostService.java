@@ -1,13 +1,19 @@
 package com.example.restapi_demo.post.service;
 
+import com.example.restapi_demo.common.api.CursorPage;
+import com.example.restapi_demo.common.api.PageCursor;
 import com.example.restapi_demo.post.dto.*;
 import com.example.restapi_demo.post.model.Post;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface PostService {
     PostListResponse getPosts(int page, int size);
 
+    CursorPage<PostSummary> getPostsByCursor(PageCursor cursor, int size);
+
     PostDetailResponse getPostDetail(Long postId, Long requestUserId);
 
     boolean deletePost(Long postId, Long requesterId);
@@ -15,9 +21,18 @@ public interface PostService {
     Integer addLike(Long postId, Long requesterId);
     Integer removeLike(Long postId, Long requesterId);
 
+    // 여러 게시글의 "내가 좋아요 했는지"를 쿼리 한 번으로 조회
+    Set<Long> getLikedPostIds(Long requesterId, Collection<Long> postIds);
+    void markLikedByMe(Long requesterId, List<PostSummary> posts);
+
     List<CommentResponse> getComments(Long postId, Long requestUserId);
+    CursorPage<CommentResponse> getComments(Long postId, PageCursor after, int limit);
+
+    // 트리 형태 댓글 목록 (최상위 댓글 + replies)
+    List<CommentTreeNode> getCommentTree(Long postId);
+    boolean isCommentOfPost(Long postId, Long commentId);
 
-    CommentResponse createComment(Long postId, Long requesterId, String requesterNickname, String content);
+    CommentResponse createComment(Long postId, Long requesterId, String requesterNickname, String content, Long parentId);
     UpdateCommentResponse updateComment(Long postId, Long commentId, Long requesterId, String content);
     boolean deleteComment(Long postId, Long commentId, Long requesterId);
 
@@ -25,8 +40,21 @@ public interface PostService {
 
     Post createPost(Long authorId, String authorName, String title, String content, String image);
 
-    List<PostSummary> searchByTitle(String keyword);
-    List<PostSummary> findByAuthorNickname(String nickname);
+    // 제목 검색은 id 내림차순 - 페이지 모드(PostListResponse) / 커서 모드 (cursor 는 다른 목록과 같은 (createdAt, id) 형식)
+    PostListResponse searchByTitle(String keyword, int page, int size);
+    CursorPage<PostSummary> searchByTitle(String keyword, PageCursor cursor, int size);
+
+    // 내가 작성한 댓글 (최신순 커서 페이지, 게시글 id/제목 포함)
+    CursorPage<MyCommentResponse> getMyComments(Long userId, PageCursor cursor, int size);
+
+    // 내가 좋아요 한 게시글 (최근 좋아요 순 커서 페이지, 커서는 (좋아요 시각, postId))
+    CursorPage<PostSummary> getLikedPosts(Long userId, PageCursor cursor, int size);
+
+    // 작성자별 목록은 (createdAt, id) 커서 페이지, 작성자가 없으면 null
+    CursorPage<PostSummary> getPostsByAuthor(Long authorId, PageCursor cursor, int size);
+    // 닉네임 → 작성자 id 로 바꾼 뒤 작성자별 목록과 같은 쿼리 사용 (없는 닉네임이면 빈 페이지)
+    PostListResponse findByAuthorNickname(String nickname, int page, int size);
+    CursorPage<PostSummary> findByAuthorNickname(String nickname, PageCursor cursor, int size);
 
     Integer increaseViews(Long postId);
 }
@@ -1,30 +1,53 @@
 package com.example.restapi_demo.post.service;
 
+import com.example.restapi_demo.common.api.CursorPage;
+import com.example.restapi_demo.common.api.PageCursor;
 import com.example.restapi_demo.post.dto.*;
 import com.example.restapi_demo.post.model.Post;
+import com.example.restapi_demo.post.repository.CommentNodeView;
+import com.example.restapi_demo.post.repository.CommentView;
 import com.example.restapi_demo.post.repository.JpaPostEntityRepository;
+import com.example.restapi_demo.post.repository.LikedPostView;
+import com.example.restapi_demo.post.repository.MyCommentView;
 import com.example.restapi_demo.post.repository.PostRepository;
 import com.example.restapi_demo.post.repository.PostRepository.DetailSeed;
+import com.example.restapi_demo.post.repository.PostSummaryView;
+import com.example.restapi_demo.post.repository.TitleNgramIndex;
+import com.example.restapi_demo.post.repository.ViewCountBuffer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 public class PostServiceImpl implements PostService {
 
+    // 커서 모드 페이지 크기 상한 (size 파라미터로 대량 조회 방지)
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final PostRepository repo;
     private final JpaPostEntityRepository jpaRepo;
+    private final ViewCountBuffer viewBuffer;
+    private final TitleNgramIndex titleIndex;
 
-    public PostServiceImpl(PostRepository repo, JpaPostEntityRepository jpaRepo) {
+    public PostServiceImpl(PostRepository repo, JpaPostEntityRepository jpaRepo,
+                           ViewCountBuffer viewBuffer, TitleNgramIndex titleIndex) {
         this.repo = repo;
         this.jpaRepo = jpaRepo;
+        this.viewBuffer = viewBuffer;
+        this.titleIndex = titleIndex;
     }
 
 
@@ -35,22 +58,14 @@ public class PostServiceImpl implements PostService {
         int pageIndex = Math.max(page, 0);
         int pageSize = (size <= 0) ? 10 : size;
 
-        // 최신 글 기준 정렬
-        Pageable pageable = PageRequest.of(pageIndex, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+        // 최신 글 기준 정렬은 쿼리에 고정 (created_at desc, id desc)
+        Pageable pageable = PageRequest.of(pageIndex, pageSize);
 
-        // ★ JPA 페이징 조회
-        Page<Post> postPage = jpaRepo.findAll(pageable);
+        // ★ 목록 전용 프로젝션 조회 (content 컬럼/작성자 lazy 로딩 없음)
+        Page<PostSummaryView> postPage = jpaRepo.findSummaries(pageable);
 
         List<PostSummary> content = postPage.getContent().stream()
-                .map(p -> new PostSummary(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getAuthor() != null ? p.getAuthor().getNickname() : null,
-                        Optional.ofNullable(p.getLikesCount()).orElse(0),
-                        Optional.ofNullable(p.getCommentsCount()).orElse(0),
-                        Optional.ofNullable(p.getViews()).orElse(0),
-                        p.getCreatedAt()
-                ))
+                .map(this::toSummary)
                 .toList();
 
         return new PostListResponse(
@@ -62,6 +77,34 @@ public class PostServiceImpl implements PostService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> getPostsByCursor(PageCursor cursor, int size) {
+        int pageSize = pageSize(size);
+
+        // 다음 페이지 존재 여부 판단용으로 한 개 더 조회 (count 쿼리 대신)
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostSummaryView> rows = (cursor == null)
+                ? jpaRepo.findLatest(limit)
+                : jpaRepo.findLatestBefore(cursor.getCreatedAt(), cursor.getId(), limit);
+
+        return CursorPage.from(rows, pageSize, this::toSummary,
+                v -> PageCursor.of(v.getCreatedAt(), v.getPostId()));
+    }
+
+    private PostSummary toSummary(PostSummaryView v) {
+        return new PostSummary(
+                v.getPostId(),
+                v.getTitle(),
+                v.getAuthor(),
+                nz(v.getLikes()),
+                nz(v.getComments()),
+                nz(v.getViews()),
+                v.getCreatedAt()
+        );
+    }
+
 
     @Override
     public List<CommentResponse> getComments(Long postId, Long requestUserId) {
@@ -75,6 +118,92 @@ public class PostServiceImpl implements PostService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getComments(Long postId, PageCursor after, int limit) {
+        int pageSize = (limit <= 0) ? 20 : Math.min(limit, MAX_CURSOR_PAGE_SIZE);
+
+        List<CommentView> rows = (after == null)
+                ? repo.findCommentPage(postId, null, null, pageSize + 1)
+                : repo.findCommentPage(postId, after.getCreatedAt(), after.getId(), pageSize + 1);
+
+        return CursorPage.from(rows, pageSize,
+                v -> new CommentResponse(
+                        v.getCommentId(),
+                        v.getAuthor() != null ? v.getAuthor() : "작성자",
+                        v.getContent(),
+                        v.getCreatedAt()),
+                v -> PageCursor.of(v.getCreatedAt(), v.getCommentId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<MyCommentResponse> getMyComments(Long userId, PageCursor cursor, int size) {
+        int pageSize = pageSize(size);
+
+        List<MyCommentView> rows = (cursor == null)
+                ? repo.findCommentsByAuthor(userId, null, null, pageSize + 1)
+                : repo.findCommentsByAuthor(userId, cursor.getCreatedAt(), cursor.getId(), pageSize + 1);
+
+        return CursorPage.from(rows, pageSize,
+                v -> new MyCommentResponse(
+                        v.getCommentId(),
+                        v.getPostId(),
+                        v.getPostTitle(),
+                        v.getContent(),
+                        v.getCreatedAt()),
+                v -> PageCursor.of(v.getCreatedAt(), v.getCommentId()));
+    }
+
+    /**
+     * 댓글 트리 조립 (쿼리 1번 + O(n))
+     * - 1차: id → 노드 맵 생성
+     * - 2차: 역순으로 돌면서 부모의 replies 에 붙인다. 답글은 부모보다 뒤에 있으므로
+     *        부모를 처리하는 시점에는 자식이 이미 붙어 있어, 답글 없는 삭제 댓글을 바로 걸러낼 수 있다.
+     * - 역순으로 붙였으므로 마지막에 각 목록을 뒤집어 작성 순서로 되돌린다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentTreeNode> getCommentTree(Long postId) {
+        List<CommentNodeView> rows = repo.findCommentNodes(postId);
+
+        List<CommentTreeNode> nodes = new ArrayList<>(rows.size());
+        Map<Long, CommentTreeNode> byId = new HashMap<>(rows.size() * 2);
+        for (CommentNodeView v : rows) {
+            boolean deleted = Boolean.TRUE.equals(v.getIsDeleted());
+            CommentTreeNode node = new CommentTreeNode(
+                    v.getCommentId(),
+                    v.getParentId(),
+                    deleted ? null : (v.getAuthor() != null ? v.getAuthor() : "작성자"),
+                    deleted ? null : v.getContent(),
+                    deleted,
+                    v.getCreatedAt());
+            nodes.add(node);
+            byId.put(node.getComment_id(), node);
+        }
+
+        List<CommentTreeNode> roots = new ArrayList<>();
+        List<CommentTreeNode> kept = new ArrayList<>();
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            CommentTreeNode node = nodes.get(i);
+            if (node.isDeleted() && node.getReplies().isEmpty()) continue;
+
+            CommentTreeNode parent = (node.getParent_id() == null) ? null : byId.get(node.getParent_id());
+            (parent != null ? parent.getReplies() : roots).add(node);
+            kept.add(node);
+        }
+
+        Collections.reverse(roots);
+        for (CommentTreeNode node : kept) Collections.reverse(node.getReplies());
+        return roots;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isCommentOfPost(Long postId, Long commentId) {
+        return repo.isCommentOfPost(commentId, postId);
+    }
+
     @Override
     public PostDetailResponse getPostDetail(Long postId, Long requestUserId) {
         try {
@@ -88,7 +217,7 @@ public class PostServiceImpl implements PostService {
                             s(d.getContent()),
                             d.getImages() != null ? d.getImages() : List.of(),
                             nz(d.getLikesCount()),
-                            nz(d.getViews()),
+                            views(d.getPostId(), d.getViews()),
                             nz(d.getCommentsCount()),
                             requestUserId != null && requestUserId.equals(d.getAuthorId()),
                             d.getCreatedAt(),
@@ -136,24 +265,45 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
+    @Transactional
     public Integer addLike(Long postId, Long requesterId) {
-        return repo.incrementLikes(postId).orElse(null);
+        return repo.incrementLikes(postId, requesterId).orElse(null);
     }
 
     @Override
+    @Transactional
     public Integer removeLike(Long postId, Long requesterId) {
-        return repo.decrementLikes(postId).orElse(null);
+        return repo.decrementLikes(postId, requesterId).orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> getLikedPostIds(Long requesterId, Collection<Long> postIds) {
+        if (requesterId == null || postIds == null || postIds.isEmpty()) return Set.of();
+        return repo.findLikedPostIds(requesterId, new LinkedHashSet<>(postIds));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void markLikedByMe(Long requesterId, List<PostSummary> posts) {
+        if (requesterId == null || posts == null || posts.isEmpty()) return;
+
+        Set<Long> liked = getLikedPostIds(requesterId, posts.stream().map(PostSummary::getPostId).toList());
+        for (PostSummary p : posts) {
+            p.setLikedByMe(liked.contains(p.getPostId()));
+        }
     }
 
     @Override
     @Transactional
-    public CommentResponse createComment(Long postId, Long requesterId, String requesterNickname, String content) {
+    public CommentResponse createComment(Long postId, Long requesterId, String requesterNickname, String content, Long parentId) {
         String authorName = (requesterNickname == null || requesterNickname.isBlank()) ? "나" : requesterNickname;
 
-        return repo.addComment(postId, requesterId, authorName, content)
+        // 작성자는 id 참조만 들고 있으므로 닉네임은 전달받은 값을 사용 (추가 SELECT 방지)
+        return repo.addComment(postId, requesterId, authorName, content, parentId)
                 .map(c -> new CommentResponse(
                         c.getId(),
-                        (c.getAuthor() != null ? c.getAuthor().getNickname() : authorName),
+                        authorName,
                         c.getContent(),
                         c.getCreatedAt()
                 ))
@@ -200,41 +350,115 @@ public class PostServiceImpl implements PostService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostSummary> searchByTitle(String keyword) {
-        return repo.findByTitleContainingIgnoreCase(keyword).stream()
-                .map(p -> new PostSummary(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getAuthor() != null ? p.getAuthor().getNickname() : null,
-                        p.getLikesCount(),
-                        p.getCommentsCount(),
-                        p.getViews(),
-                        p.getCreatedAt()
-                ))
-                .toList();
+    public PostListResponse searchByTitle(String keyword, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize(size));
+        return toListResponse(repo.findSummaryPageByTitle(keyword, pageable));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<PostSummary> findByAuthorNickname(String nickname) {
-        return repo.findByAuthorNickname(nickname).stream()
-                .map(p -> new PostSummary(
-                        p.getId(),
-                        p.getTitle(),
-                        p.getAuthor() != null ? p.getAuthor().getNickname() : null,
-                        p.getLikesCount(),
-                        p.getCommentsCount(),
-                        p.getViews(),
-                        p.getCreatedAt()
-                ))
-                .toList();
+    public CursorPage<PostSummary> searchByTitle(String keyword, PageCursor cursor, int size) {
+        int pageSize = pageSize(size);
+        // 커서는 다른 목록과 같은 (createdAt, id) 형식, 제목 검색은 id 순이므로 위치는 id 로 잡는다
+        Long beforeId = (cursor == null) ? null : cursor.getId();
+
+        // 색인에서 id 를 찾고, DB 는 이번 페이지 게시글의 목록 데이터만 읽는다
+        Optional<List<Long>> ids = titleIndex.search(keyword, beforeId, pageSize + 1);
+        if (ids.isPresent()) {
+            List<Long> found = ids.get();
+            boolean hasNext = found.size() > pageSize;
+            List<Long> pageIds = hasNext ? found.subList(0, pageSize) : found;
+
+            List<PostSummary> content = pageIds.isEmpty() ? List.of()
+                    : repo.findSummariesByIds(pageIds).stream().map(this::toSummary).toList();
+            // 그 사이 삭제된 게시글은 content 에서 빠지므로 커서는 실제로 내려준 마지막 게시글 기준
+            // (이번 페이지가 전부 삭제됐으면 커서를 만들 수 없어 여기서 끝낸다)
+            PostSummary last = content.isEmpty() ? null : content.get(content.size() - 1);
+            boolean more = hasNext && last != null;
+            String nextCursor = more ? PageCursor.of(last.getCreatedAt(), last.getPostId()).encode() : null;
+            return new CursorPage<>(content, pageSize, nextCursor, more);
+        }
+
+        // 색인 준비 전이나 한 글자 검색은 DB LIKE 검색 (limit 은 쿼리에 적용)
+        List<PostSummaryView> rows = repo.findSummariesByTitle(keyword, beforeId, pageSize + 1);
+        return CursorPage.from(rows, pageSize, this::toSummary,
+                v -> PageCursor.of(v.getCreatedAt(), v.getPostId()));
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> getPostsByAuthor(Long authorId, PageCursor cursor, int size) {
+        if (!repo.existsAuthor(authorId)) return null;
+        return authorPage(authorId, cursor, pageSize(size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostListResponse findByAuthorNickname(String nickname, int page, int size) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), pageSize(size));
+        return repo.findAuthorIdByNickname(nickname)
+                .map(authorId -> toListResponse(repo.findSummaryPageByAuthor(authorId, pageable)))
+                .orElseGet(() -> new PostListResponse(List.of(), pageable.getPageNumber(), pageable.getPageSize(), 0, 0));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> findByAuthorNickname(String nickname, PageCursor cursor, int size) {
+        int pageSize = pageSize(size);
+        return repo.findAuthorIdByNickname(nickname)
+                .map(authorId -> authorPage(authorId, cursor, pageSize))
+                .orElseGet(() -> new CursorPage<>(List.of(), pageSize, null, false));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> getLikedPosts(Long userId, PageCursor cursor, int size) {
+        int pageSize = pageSize(size);
+
+        List<LikedPostView> rows = (cursor == null)
+                ? repo.findLikedPosts(userId, null, null, pageSize + 1)
+                : repo.findLikedPosts(userId, cursor.getCreatedAt(), cursor.getId(), pageSize + 1);
+
+        CursorPage<PostSummary> page = CursorPage.from(rows, pageSize, this::toSummary,
+                v -> PageCursor.of(v.getLikedAt(), v.getPostId()));
+        // 목록 자체가 좋아요 한 게시글이므로 likedByMe 는 조회 없이 채운다
+        page.getContent().forEach(s -> s.setLikedByMe(true));
+        return page;
+    }
+
+    // (author_id, is_deleted, created_at) 인덱스 seek, 한 개 더 조회해서 다음 페이지 판단
+    private CursorPage<PostSummary> authorPage(Long authorId, PageCursor cursor, int pageSize) {
+        List<PostSummaryView> rows = (cursor == null)
+                ? repo.findSummariesByAuthor(authorId, null, null, pageSize + 1)
+                : repo.findSummariesByAuthor(authorId, cursor.getCreatedAt(), cursor.getId(), pageSize + 1);
+
+        return CursorPage.from(rows, pageSize, this::toSummary,
+                v -> PageCursor.of(v.getCreatedAt(), v.getPostId()));
+    }
+
+    private PostListResponse toListResponse(Page<PostSummaryView> page) {
+        return new PostListResponse(
+                page.getContent().stream().map(this::toSummary).toList(),
+                page.getNumber(),
+                page.getSize(),
+                page.getTotalElements(),
+                page.getTotalPages()
+        );
+    }
+
+    private int pageSize(int size) {
+        return (size <= 0) ? 10 : Math.min(size, MAX_CURSOR_PAGE_SIZE);
+    }
+
+    // 조회수는 버퍼에 모았다가 주기적으로 배치 반영 (요청마다 UPDATE 하지 않음)
+    @Override
     public Integer increaseViews(Long postId) {
-        int updated = jpaRepo.increaseViews(postId);
-        if (updated == 0) return null;
-        return jpaRepo.findViews(postId).orElse(null);
+        return viewBuffer.increment(postId);
+    }
+
+    // 상세 스냅샷(캐시)의 조회수보다 버퍼 값이 최신이면 버퍼 값을 사용
+    private int views(Long postId, int snapshotViews) {
+        Integer live = viewBuffer.currentViews(postId);
+        return (live != null) ? live : snapshotViews;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.restapi_demo.user.controller;
 
+import com.example.restapi_demo.auth.crypto.PasswordHashingBusyException;
 import com.example.restapi_demo.auth.jwt.CustomUserPrincipal;
 import com.example.restapi_demo.common.api.ApiResponse;
 import com.example.restapi_demo.user.dto.FieldErrorDTO;
@@ -37,7 +38,8 @@ public class UserController {
     @io.swagger.v3.oas.annotations.responses.ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "register_success"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "invalid_request"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "internal_server_error")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "internal_server_error"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "server_busy (Retry-After 헤더 참고)")
     })
     @PostMapping("/signup")
     public ResponseEntity<ApiResponse<Object>> signup(
@@ -62,6 +64,10 @@ public class UserController {
             }
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(new ApiResponse<>("register_success", Map.of("user_id", user.getId())));
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new ApiResponse<>("server_busy", null));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ApiResponse<>("internal_server_error", null));
@@ -211,7 +217,8 @@ public class UserController {
             ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "auth_required"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "user_not_found"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "internal_server_error")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "internal_server_error"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "503", description = "server_busy (Retry-After 헤더 참고)")
     })
     @PatchMapping("/me/password")
     public ResponseEntity<ApiResponse<Object>> changePassword(
@@ -241,6 +248,10 @@ public class UserController {
             }
 
             return ResponseEntity.ok(new ApiResponse<>("password_changed", null));
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(new ApiResponse<>("server_busy", null));
         } catch (Exception e) {
             e.printStackTrace();
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
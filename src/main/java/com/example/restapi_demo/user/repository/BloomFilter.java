@@ -0,0 +1,100 @@
+package com.example.restapi_demo.user.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom filter (lock-free)
+ * - 비트 배열은 AtomicLongArray, 추가는 CAS 로 OR 하므로 여러 스레드가 동시에 put / mightContain 해도 된다.
+ * - 해시 k 개는 64비트 해시 두 개로 만든다 (double hashing: h1 + i * h2)
+ * - false 는 "확실히 없음", true 는 "있을 수도 있음" (삭제는 지원하지 않음)
+ */
+final class BloomFilter {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param fpp                목표 false positive 확률 (예: 0.01)
+     */
+    BloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+        this.words = new AtomicLongArray(Math.max(1, wordCount));
+        this.bitSize = (long) words.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+    }
+
+    void put(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;   // 홀수로 만들어 모든 위치를 돌 수 있게
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            int w = (int) (bit >>> 6);
+            long mask = 1L << (bit & 63);
+
+            long cur;
+            do {
+                cur = words.get(w);
+                if ((cur & mask) != 0) break;
+            } while (!words.compareAndSet(w, cur, cur | mask));
+        }
+    }
+
+    boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9e3779b97f4a7c15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) return false;
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bitSize;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    long bitsSet() {
+        long n = 0;
+        for (int i = 0; i < words.length(); i++) n += Long.bitCount(words.get(i));
+        return n;
+    }
+
+    /** 현재 비트 채움 비율로 계산한 false positive 확률 추정치 */
+    double expectedFpp() {
+        return Math.pow((double) bitsSet() / bitSize, hashCount);
+    }
+
+    // FNV-1a 64 + 마무리 섞기 (MurmurHash3 fmix64)
+    private static long hash(String key) {
+        long h = FNV_OFFSET;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= FNV_PRIME;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
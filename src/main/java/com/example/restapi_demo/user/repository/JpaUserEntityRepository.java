@@ -2,6 +2,8 @@ package com.example.restapi_demo.user.repository;
 
 import com.example.restapi_demo.user.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -12,4 +14,8 @@ public interface JpaUserEntityRepository extends JpaRepository<User, Long> {
     List<User> findByNicknameContainingIgnoreCaseOrderByIdDesc(String keyword);
     boolean existsByEmail(String email);
     long countByNickname(String nickname);
+
+    // 닉네임은 unique (uq_users_nickname) 이므로 id 하나로 바로 찾는다
+    @Query("select u.id from User u where u.nickname = :nickname")
+    Optional<Long> findIdByNickname(@Param("nickname") String nickname);
 }
@@ -13,12 +13,13 @@ import java.util.Optional;
 public class JpaUserRepositoryAdapter implements UserRepository {
 
     private final JpaUserEntityRepository jpa;
+    private final UserCache cache;
 
+    // 조회는 캐시된 스냅샷(분리된 사본)을 반환, 변경 경로는 엔티티를 직접 읽고 캐시를 무효화
     @Transactional(readOnly = true)
     @Override
     public Optional<User> findByEmail(String email) {
-        return jpa.findByEmail(email)
-                .filter(User::getIsActive);
+        return cache.getByEmail(email, e -> jpa.findByEmail(e).filter(User::getIsActive));
     }
 
     @Override
@@ -30,12 +31,12 @@ public class JpaUserRepositoryAdapter implements UserRepository {
     @Transactional(readOnly = true)
     @Override
     public Optional<User> findById(Long id) {
-        return jpa.findById(id)
-                .filter(User::getIsActive);
+        return cache.getById(id, key -> jpa.findById(key).filter(User::getIsActive));
     }
 
     @Override
     public Optional<User> updateProfile(Long id, String nickname, String profileImageUrl) {
+        cache.invalidate(id);
         return jpa.findById(id)
                 .filter(User::getIsActive)
                 .map(u -> {
@@ -47,6 +48,7 @@ public class JpaUserRepositoryAdapter implements UserRepository {
 
     @Override
     public boolean deleteById(Long id) {
+        cache.invalidate(id);
         return jpa.findById(id).map(u -> {
             u.setIsActive(false);
             jpa.save(u);
@@ -56,6 +58,7 @@ public class JpaUserRepositoryAdapter implements UserRepository {
 
     @Override
     public Optional<User> updatePassword(Long id, String newPasswordHash) {
+        cache.invalidate(id);
         return jpa.findById(id)
                 .filter(User::getIsActive)
                 .map(u -> {
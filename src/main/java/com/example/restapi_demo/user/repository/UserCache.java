@@ -0,0 +1,135 @@
+package com.example.restapi_demo.user.repository;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import com.example.restapi_demo.common.tx.AfterCommit;
+import com.example.restapi_demo.user.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 사용자(User) 스냅샷 캐시 - id 로, 그리고 이메일 → id 로 찾는다.
+ * - /api/users/me, 로그인(UserDetailsService) 처럼 같은 사용자 행을 반복해서 읽는 경로용
+ * - 엔티티를 그대로 두지 않고 분리된 사본(스냅샷)을 저장하고, 꺼낼 때도 사본을 준다.
+ *   호출 측이 값을 바꿔도 캐시나 영속성 컨텍스트에 영향이 없다.
+ * - 활성 사용자만 저장한다. 프로필/비밀번호 변경, 탈퇴 시 지금 한 번 + 커밋 후 한 번 무효화한다.
+ * - 이메일 키는 소문자로 맞춘다 (DB collation 이 대소문자를 무시하므로 같은 행을 가리킴)
+ * - 이메일 조회는 읽기와 저장이 따로라, 읽는 사이 무효화가 있었으면(세대 번호가 바뀜) 저장하지 않는다.
+ *   (옛 비밀번호 해시/탈퇴 전 상태가 TTL 동안 남지 않도록)
+ */
+@Component
+public class UserCache implements StatsSource {
+
+    private final Cache<Long, User> byId;
+    private final Cache<String, Long> idByEmail;
+
+    // invalidate 마다 증가, 읽기 시작 시점 값과 다르면 읽은 값이 옛 행일 수 있음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserCache(@Value("${users.cache.max-size:10000}") long maxSize,
+                     @Value("${users.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.idByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    /**
+     * id 로 조회, 없으면 loader 로 읽어서 저장 (비활성/없는 사용자는 저장하지 않음)
+     * - Caffeine 이 같은 키의 읽기(compute)와 invalidate 를 순서대로 처리하므로, 읽는 중 들어온 무효화는 읽기가 끝난 뒤 적용된다.
+     */
+    public Optional<User> getById(Long id, Function<Long, Optional<User>> loader) {
+        if (id == null) return Optional.empty();
+        User cached = byId.get(id, key -> loader.apply(key).map(UserCache::snapshot).orElse(null));
+        return Optional.ofNullable(cached).map(UserCache::snapshot);
+    }
+
+    /**
+     * 이메일로 조회 - 이메일 → id 매핑이 있고 id 캐시에도 있으면 DB 를 읽지 않는다.
+     */
+    public Optional<User> getByEmail(String email, Function<String, Optional<User>> loader) {
+        if (email == null) return Optional.empty();
+        String key = emailKey(email);
+
+        Long id = idByEmail.getIfPresent(key);
+        if (id != null) {
+            User cached = byId.getIfPresent(id);
+            if (cached != null) return Optional.of(snapshot(cached));
+        }
+
+        long generation = invalidations.get();
+        Optional<User> loaded = loader.apply(email).map(UserCache::snapshot);
+        loaded.ifPresent(u -> {
+            // 확인과 저장을 같은 키의 compute 안에서 → 확인 직후 들어온 invalidate 도 저장 뒤에 실행되어 지운다
+            byId.asMap().compute(u.getId(), (id, current) -> invalidations.get() == generation ? u : current);
+            idByEmail.put(key, u.getId());
+        });
+        return loaded.map(UserCache::snapshot);
+    }
+
+    /**
+     * 사용자 정보 변경/탈퇴 시 무효화 (이메일 매핑은 id 캐시가 비면 자연히 DB 로 다시 읽음)
+     */
+    public void invalidate(Long id) {
+        if (id == null) return;
+        // 세대 번호를 먼저 올려야, 그 뒤에 끝나는 이메일 조회가 옛 값을 저장하지 않는다
+        invalidations.incrementAndGet();
+        byId.invalidate(id);
+        AfterCommit.run(() -> {
+            invalidations.incrementAndGet();
+            byId.invalidate(id);
+        });
+    }
+
+    private static String emailKey(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 영속성 컨텍스트와 분리된 사본 (passwordConfirm 같은 @Transient 값은 제외)
+    private static User snapshot(User u) {
+        return User.builder()
+                .id(u.getId())
+                .email(u.getEmail())
+                .passwordHash(u.getPasswordHash())
+                .nickname(u.getNickname())
+                .profileImageUrl(u.getProfileImageUrl())
+                .role(u.getRole())
+                .isActive(u.getIsActive())
+                .createdAt(u.getCreatedAt())
+                .updatedAt(u.getUpdatedAt())
+                .build();
+    }
+
+    @Override
+    public String statsName() {
+        return "user-cache";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        CacheStats s = byId.stats();
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("size", byId.estimatedSize());
+        m.put("emailKeys", idByEmail.estimatedSize());
+        m.put("hits", s.hitCount());
+        m.put("misses", s.missCount());
+        m.put("hitRate", s.hitRate());
+        m.put("evictions", s.evictionCount());
+        return m;
+    }
+}
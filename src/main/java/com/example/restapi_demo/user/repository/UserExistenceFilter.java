@@ -0,0 +1,226 @@
+package com.example.restapi_demo.user.repository;
+
+import com.example.restapi_demo.common.api.StatsSource;
+import com.example.restapi_demo.common.text.CollationFold;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * 이메일 / 닉네임 중복 확인용 Bloom filter
+ * - 회원가입 폼이 키 입력마다 호출하는 exists/count API 에서, 필터가 "없음" 이라고 하면 DB 를 조회하지 않는다.
+ *   "있을 수도 있음" 일 때만 DB 로 확인한다.
+ * - 키는 DB collation(utf8mb4_0900_ai_ci, 대소문자/악센트 무시)이 같다고 보는 값끼리 같아지도록 정규화한다
+ *   (CollationFold + trim). 필터 쪽이 더 많이 겹치는 건 괜찮지만 반대면 누락이 생긴다.
+ * - collation 규칙을 다 흉내낼 수는 없으므로, 정규화한 키가 ASCII/한글로만 이뤄졌을 때만 "없음" 을 믿는다.
+ *   그 밖의 문자가 남은 키는 필터를 건너뛰고 DB 로 확인한다.
+ * - 시작 시(ApplicationReadyEvent) users 를 chunk 단위로 읽어 채우고, 그 전에는 항상 DB 로 확인한다.
+ * - 가입/닉네임 변경은 저장 "전에" 넣는다 → 행이 보이는 순간에는 이미 필터에 있다 (롤백되면 오탐 하나가 남을 뿐)
+ * - 탈퇴/닉네임 변경으로 빠진 값은 지울 수 없으므로 오탐으로 남는다 (DB 확인으로 걸러짐)
+ */
+@Slf4j
+@Component
+public class UserExistenceFilter implements StatsSource {
+
+    private static final String SELECT_CHUNK = """
+            select id, email, nickname
+            from users
+            where id > ?
+            order by id
+            limit ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int loadChunkSize;
+    private final long expectedInsertions;
+    private final double targetFpp;
+
+    private final BloomFilter emails;
+    private final BloomFilter nicknames;
+    private volatile boolean ready;
+    private volatile long lastLoadMillis;
+    private final AtomicLong loaded = new AtomicLong();
+
+    private final Lookups emailLookups = new Lookups();
+    private final Lookups nicknameLookups = new Lookups();
+
+    public UserExistenceFilter(JdbcTemplate jdbcTemplate,
+                               @Value("${users.existence-filter.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${users.existence-filter.fpp:0.01}") double targetFpp,
+                               @Value("${users.existence-filter.load-chunk-size:2000}") int loadChunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.targetFpp = targetFpp;
+        this.loadChunkSize = Math.max(1, loadChunkSize);
+        this.emails = new BloomFilter(expectedInsertions, targetFpp);
+        this.nicknames = new BloomFilter(expectedInsertions, targetFpp);
+    }
+
+    /** 조회 통계: 필터에서 끝난 건수, DB 로 넘긴 건수, DB 에도 없던 건수(오탐), 키 때문에 필터를 건너뛴 건수 */
+    private static final class Lookups {
+        final AtomicLong negatives = new AtomicLong();
+        final AtomicLong bypassed = new AtomicLong();
+        final AtomicLong fallbacks = new AtomicLong();
+        final AtomicLong falsePositives = new AtomicLong();
+
+        // 오탐률 = 오탐 / (실제로 없던 값 전체 = 필터에서 걸러진 것 + 오탐)
+        double observedFpp() {
+            long fp = falsePositives.get();
+            long absent = negatives.get() + fp;
+            return (absent == 0) ? 0.0 : (double) fp / absent;
+        }
+
+        Map<String, Object> toMap(BloomFilter f) {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("bits", f.bitSize());
+            m.put("hashes", f.hashCount());
+            m.put("bitsSet", f.bitsSet());
+            m.put("expectedFpp", f.expectedFpp());
+            m.put("negatives", negatives.get());
+            m.put("dbFallbacks", fallbacks.get());
+            m.put("falsePositives", falsePositives.get());
+            m.put("bypassed", bypassed.get());
+            m.put("observedFpp", observedFpp());
+            return m;
+        }
+    }
+
+    // ===== 로드 =====
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        load();
+    }
+
+    public void load() {
+        long started = System.currentTimeMillis();
+        try {
+            long lastId = 0;
+            long count = 0;
+            while (true) {
+                List<Object[]> rows = jdbcTemplate.query(SELECT_CHUNK,
+                        (rs, i) -> new Object[]{rs.getLong(1), rs.getString(2), rs.getString(3)},
+                        lastId, loadChunkSize);
+                if (rows.isEmpty()) break;
+
+                for (Object[] row : rows) {
+                    put(emails, (String) row[1]);
+                    put(nicknames, (String) row[2]);
+                }
+                count += rows.size();
+                lastId = (Long) rows.get(rows.size() - 1)[0];
+                if (rows.size() < loadChunkSize) break;
+            }
+
+            loaded.set(count);
+            lastLoadMillis = System.currentTimeMillis() - started;
+            ready = true;
+            log.info("이메일/닉네임 필터 로드 완료: 사용자 {}명, {}ms", count, lastLoadMillis);
+        } catch (RuntimeException e) {
+            log.warn("이메일/닉네임 필터 로드 실패, 중복 확인은 DB 로 계속합니다: {}", e.getMessage());
+        }
+    }
+
+    // ===== 변경 반영 (저장 전에 호출) =====
+
+    public void addEmail(String email) {
+        put(emails, email);
+    }
+
+    public void addNickname(String nickname) {
+        put(nicknames, nickname);
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 이메일 존재 여부 - 필터가 "없음" 이면 바로 false, 아니면 dbCheck 로 확인
+     */
+    public boolean existsEmail(String email, Predicate<String> dbCheck) {
+        Boolean filtered = consult(emails, emailLookups, email);
+        if (Boolean.FALSE.equals(filtered)) return false;
+
+        boolean exists = dbCheck.test(email);
+        if (filtered != null) record(emailLookups, exists);
+        return exists;
+    }
+
+    /**
+     * 닉네임 사용 수 - 필터가 "없음" 이면 바로 0, 아니면 dbCount 로 확인
+     */
+    public long countNickname(String nickname, ToLongFunction<String> dbCount) {
+        Boolean filtered = consult(nicknames, nicknameLookups, nickname);
+        if (Boolean.FALSE.equals(filtered)) return 0;
+
+        long count = dbCount.applyAsLong(nickname);
+        if (filtered != null) record(nicknameLookups, count > 0);
+        return count;
+    }
+
+    /**
+     * 필터 결과: false = 확실히 없음, true = 있을 수도 있음, null = 필터를 쓸 수 없음(로드 전 / 믿을 수 없는 키)
+     */
+    private Boolean consult(BloomFilter filter, Lookups lookups, String value) {
+        if (!ready || value == null) return null;
+
+        String key = normalize(value);
+        if (!isFoldedKey(key)) {
+            lookups.bypassed.incrementAndGet();
+            return null;
+        }
+        if (!filter.mightContain(key)) {
+            lookups.negatives.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private static void record(Lookups lookups, boolean existed) {
+        lookups.fallbacks.incrementAndGet();
+        if (!existed) lookups.falsePositives.incrementAndGet();
+    }
+
+    private static void put(BloomFilter filter, String value) {
+        if (value == null) return;
+        filter.put(normalize(value));
+    }
+
+    static String normalize(String value) {
+        return CollationFold.fold(value).trim();
+    }
+
+    /**
+     * 정규화 결과를 믿을 수 있는 키인지 - ASCII 와 한글만 허용
+     */
+    static boolean isFoldedKey(String key) {
+        return CollationFold.isFullyFolded(key);
+    }
+
+    @Override
+    public String statsName() {
+        return "user-existence-filter";
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("ready", ready);
+        m.put("loadedUsers", loaded.get());
+        m.put("lastLoadMillis", lastLoadMillis);
+        m.put("expectedInsertions", expectedInsertions);
+        m.put("targetFpp", targetFpp);
+        m.put("email", emailLookups.toMap(emails));
+        m.put("nickname", nicknameLookups.toMap(nicknames));
+        return m;
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.restapi_demo.user.service;
 
+import com.example.restapi_demo.auth.jwt.TokenRevocationList;
+import com.example.restapi_demo.auth.service.RefreshTokenService;
 import com.example.restapi_demo.user.model.User;
+import com.example.restapi_demo.user.repository.UserExistenceFilter;
 import com.example.restapi_demo.user.repository.UserRepository;
 import org.springframework.security.crypto.password.PasswordEncoder; // ★ 추가
 import org.springframework.stereotype.Service;
@@ -15,11 +18,20 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserExistenceFilter existenceFilter;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenService refreshTokenService;
 
     public UserServiceImpl(UserRepository userRepository,
-                           PasswordEncoder passwordEncoder) {
+                           PasswordEncoder passwordEncoder,
+                           UserExistenceFilter existenceFilter,
+                           TokenRevocationList tokenRevocationList,
+                           RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.existenceFilter = existenceFilter;
+        this.tokenRevocationList = tokenRevocationList;
+        this.refreshTokenService = refreshTokenService;
     }
 
     // 회원가입
@@ -42,6 +54,9 @@ public class UserServiceImpl implements UserService {
                 .profileImageUrl(profileImageUrl)
                 .build();
 
+        // 저장 전에 필터에 먼저 넣는다 (저장된 행이 필터에 없는 순간이 없도록)
+        existenceFilter.addEmail(email);
+        existenceFilter.addNickname(nickname);
         return userRepository.save(toSave);
     }
 
@@ -62,13 +77,20 @@ public class UserServiceImpl implements UserService {
     @Override
     public User updateProfile(Long id, String nickname, String profileImageUrl) {
         if (id == null) return null;
+        if (nickname != null) existenceFilter.addNickname(nickname);
         return userRepository.updateProfile(id, nickname, profileImageUrl).orElse(null);
     }
 
     @Override
     public boolean deleteMe(Long id) {
         if (id == null) return false;
-        return userRepository.deleteById(id);
+        boolean deleted = userRepository.deleteById(id);
+        // 탈퇴한 사용자의 기존 토큰 전부 무효
+        if (deleted) {
+            tokenRevocationList.revokeAllIssuedBefore(id);
+            refreshTokenService.revokeAllForUser(id);
+        }
+        return deleted;
     }
 
     @Override
@@ -90,6 +112,10 @@ public class UserServiceImpl implements UserService {
             errors.add(new String[]{"user", "not_found"});
             return new ChangePasswordResult(false, errors);
         }
+        // 비밀번호를 바꾸면 다른 기기의 토큰도 포함해 기존 토큰 전부 무효 (다시 로그인)
+        // 로그인 시 cost 재해시(UserDetailsPasswordService)는 updatePassword 를 직접 쓰므로 여기를 거치지 않음
+        tokenRevocationList.revokeAllIssuedBefore(id);
+        refreshTokenService.revokeAllForUser(id);
         return new ChangePasswordResult(true, null);
     }
 
@@ -112,12 +138,13 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        // 필터가 "없음" 이면 DB 조회 없이 false
+        return existenceFilter.existsEmail(email, userRepository::existsByEmail);
     }
 
     @Override
     @Transactional(readOnly = true)
     public long countByNickname(String nickname) {
-        return userRepository.countByNickname(nickname);
+        return existenceFilter.countNickname(nickname, userRepository::countByNickname);
     }
 }
@@ -0,0 +1,88 @@
+package com.example.restapi_demo.auth.crypto;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    // release 될 때까지 해시가 끝나지 않는 encoder
+    private final PasswordEncoder slow = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence raw) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + raw;
+        }
+
+        @Override
+        public boolean matches(CharSequence raw, String encoded) {
+            return encode(raw).equals(encoded);
+        }
+    };
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("정상 처리 시 delegate 결과를 그대로 반환")
+    void delegates() {
+        release.countDown();
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, 1000, 1);
+
+        assertThat(encoder.encode("pw")).isEqualTo("hash:pw");
+        assertThat(encoder.matches("pw", "hash:pw")).isTrue();
+        assertThat(encoder.stats()).containsEntry("hashes", 2L);
+    }
+
+    @Test
+    @DisplayName("실행 중 1개 + 대기열 1개가 차 있으면 바로 busy 예외")
+    void rejectsWhenQueueFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, 5000, 3);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (encoder.stats().get("queueDepth").equals(0) && System.nanoTime() < deadline) Thread.onSpinWait();
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOf(PasswordHashingBusyException.class)
+                .extracting(e -> ((PasswordHashingBusyException) e).getRetryAfterSeconds())
+                .isEqualTo(3L);
+
+        release.countDown();
+        assertThat(running.get(1, TimeUnit.SECONDS)).isEqualTo("hash:a");
+        assertThat(queued.get(1, TimeUnit.SECONDS)).isEqualTo("hash:b");
+        assertThat(encoder.stats()).containsEntry("rejected", 1L);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 busy 예외")
+    void timesOut() {
+        encoder = new BoundedPasswordEncoder(slow, 1, 1, 50, 1);
+
+        assertThatThrownBy(() -> encoder.encode("a")).isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(encoder.stats()).containsEntry("timedOut", 1L);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.restapi_demo.auth.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TunableBCryptPasswordEncoder 테스트")
+class TunableBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("cost 가 목표보다 낮거나 높으면 재해시 대상, 같으면 아님")
+    void upgradeOnCostMismatch() {
+        TunableBCryptPasswordEncoder target = new TunableBCryptPasswordEncoder(5);
+
+        String lower = new TunableBCryptPasswordEncoder(4).encode("pw");
+        String same = target.encode("pw");
+        String higher = new TunableBCryptPasswordEncoder(6).encode("pw");
+
+        assertThat(target.upgradeEncoding(lower)).isTrue();
+        assertThat(target.upgradeEncoding(same)).isFalse();
+        assertThat(target.upgradeEncoding(higher)).isTrue();
+        assertThat(target.matches("pw", higher)).isTrue();
+    }
+
+    @Test
+    @DisplayName("BCrypt 형식이 아니면 재해시 대상 아님")
+    void notBcrypt() {
+        assertThat(new TunableBCryptPasswordEncoder(5).upgradeEncoding("plain")).isFalse();
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.restapi_demo.auth.jwt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JwtFilter 테스트")
+class JwtFilterTest {
+
+    private final TokenProvider tokenProvider =
+            spy(new TokenProvider("test-secret-key-that-is-long-enough-for-hs256-algorithm", 60_000));
+
+    private final JwtFilter filter = new JwtFilter(tokenProvider, new VerifiedTokenCache(100),
+            new TokenRevocationList(60_000), new String[]{"GET /api/posts/**"});
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private MockHttpServletRequest request(String method, String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader(JwtFilter.AUTHORIZATION_HEADER, JwtFilter.BEARER_PREFIX + token);
+        return request;
+    }
+
+    @Test
+    @DisplayName("공개 경로 - 인증 정보를 읽기 전까지 검증하지 않고, 읽으면 한 번만 검증")
+    void deferredUntilRead() throws Exception {
+        // given
+        String token = tokenProvider.createToken(1L, "test@example.com", "테스터", "ROLE_USER");
+
+        // when
+        filter.doFilter(request("GET", "/api/posts/1", token), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        verify(tokenProvider, never()).verify(anyString());
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.getContext().getAuthentication();
+        assertThat(((CustomUserPrincipal) auth.getPrincipal()).getId()).isEqualTo(1L);
+        verify(tokenProvider, times(1)).verify(token);
+    }
+
+    @Test
+    @DisplayName("공개 경로 - 잘못된 토큰은 401 대신 익명")
+    void deferredInvalidIsAnonymous() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("GET", "/api/posts", "not-a-jwt"), response, chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    @DisplayName("일반 경로 - 잘못된 토큰은 바로 401")
+    void eagerInvalidIs401() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("POST", "/api/posts", "not-a-jwt"), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(401);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.restapi_demo.auth.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenProvider 테스트")
+class TokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256-algorithm";
+
+    private final TokenProvider tokenProvider = new TokenProvider(SECRET, 60_000);
+
+    @Test
+    @DisplayName("유효한 토큰 - 한 번의 verify 로 principal 까지")
+    void valid() {
+        // given
+        String token = tokenProvider.createToken(1L, "test@example.com", "테스터", "ROLE_USER");
+
+        // when
+        VerifiedToken verified = tokenProvider.verify(token);
+
+        // then
+        assertThat(verified.status()).isEqualTo(VerifiedToken.Status.VALID);
+        assertThat(verified.expiresAt()).isNotNull();
+        CustomUserPrincipal principal = (CustomUserPrincipal) verified.authentication().getPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getEmail()).isEqualTo("test@example.com");
+        assertThat(principal.getNickname()).isEqualTo("테스터");
+        assertThat(verified.authentication().getAuthorities())
+                .extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("발급 시각은 밀리초 단위 (iatMs)")
+    void issuedAtMillis() {
+        long before = System.currentTimeMillis();
+        String token = tokenProvider.createToken(1L, "test@example.com", "테스터", "ROLE_USER");
+        long after = System.currentTimeMillis();
+
+        long issuedAt = tokenProvider.verify(token).issuedAt().toEpochMilli();
+
+        assertThat(issuedAt).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - EXPIRED")
+    void expired() {
+        TokenProvider expiredProvider = new TokenProvider(SECRET, -1_000);
+        String token = expiredProvider.createToken(1L, "test@example.com", "테스터", "ROLE_USER");
+
+        assertThat(tokenProvider.verify(token).status()).isEqualTo(VerifiedToken.Status.EXPIRED);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명했거나 형식이 잘못된 토큰 - INVALID")
+    void invalid() {
+        TokenProvider other = new TokenProvider(SECRET + "-other", 60_000);
+        String foreign = other.createToken(1L, "test@example.com", "테스터", "ROLE_USER");
+
+        assertThat(tokenProvider.verify(foreign).status()).isEqualTo(VerifiedToken.Status.INVALID);
+        assertThat(tokenProvider.verify("not-a-jwt").status()).isEqualTo(VerifiedToken.Status.INVALID);
+        assertThat(tokenProvider.validateToken("not-a-jwt")).isFalse();
+    }
+}
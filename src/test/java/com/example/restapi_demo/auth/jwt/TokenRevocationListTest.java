@@ -0,0 +1,87 @@
+package com.example.restapi_demo.auth.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenRevocationList 테스트")
+class TokenRevocationListTest {
+
+    private final TokenProvider tokenProvider =
+            new TokenProvider("test-secret-key-that-is-long-enough-for-hs256-algorithm", 60_000);
+    private final TokenRevocationList revocations = new TokenRevocationList(60_000);
+
+    private VerifiedToken issue(Long userId) {
+        return tokenProvider.verify(tokenProvider.createToken(userId, "test@example.com", "테스터", "ROLE_USER"));
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰만 폐기, 같은 사용자의 다른 토큰은 유효")
+    void revokeSingle() {
+        // given
+        VerifiedToken first = issue(1L);
+        VerifiedToken second = issue(1L);
+        assertThat(first.tokenId()).isNotEqualTo(second.tokenId());
+
+        // when
+        revocations.revoke(first);
+
+        // then
+        assertThat(revocations.isRevoked(first)).isTrue();
+        assertThat(revocations.isRevoked(second)).isFalse();
+    }
+
+    @Test
+    @DisplayName("사용자 watermark 이전(같은 초 포함)에 발급된 토큰은 무효, 이후 발급은 유효")
+    void watermark() {
+        // given
+        VerifiedToken old = issue(1L);
+        VerifiedToken otherUser = issue(2L);
+
+        // when
+        revocations.revokeAllIssuedBefore(1L, old.issuedAt());
+
+        // then
+        assertThat(revocations.isRevoked(old)).isTrue();
+        assertThat(revocations.isRevoked(otherUser)).isFalse();
+
+        // watermark 가 예전이면 지금 발급된 토큰은 유효
+        TokenRevocationList earlier = new TokenRevocationList(60_000);
+        earlier.revokeAllIssuedBefore(1L, Instant.now().minusSeconds(5));
+        assertThat(earlier.isRevoked(issue(1L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("watermark 와 같은 초라도 이후(밀리초)에 발급된 토큰은 유효 - 비밀번호 변경 직후 재로그인")
+    void sameSecondAfterWatermark() {
+        // given - x.200 초에 비밀번호 변경, 같은 초 x.500 에 재로그인한 토큰과 x.100 에 발급된 옛 토큰
+        VerifiedToken issued = issue(1L);
+        Instant second = Instant.ofEpochSecond(issued.issuedAt().getEpochSecond());
+        VerifiedToken old = VerifiedToken.valid(issued.authentication(), UUID.randomUUID(),
+                second.plusMillis(100), issued.expiresAt());
+        VerifiedToken relogin = VerifiedToken.valid(issued.authentication(), UUID.randomUUID(),
+                second.plusMillis(500), issued.expiresAt());
+
+        // when
+        revocations.revokeAllIssuedBefore(1L, second.plusMillis(200));
+
+        // then
+        assertThat(revocations.isRevoked(old)).isTrue();
+        assertThat(revocations.isRevoked(relogin)).isFalse();
+    }
+
+    @Test
+    @DisplayName("watermark 는 뒤로 가지 않는다")
+    void watermarkMonotonic() {
+        VerifiedToken token = issue(1L);
+
+        revocations.revokeAllIssuedBefore(1L, token.issuedAt());
+        revocations.revokeAllIssuedBefore(1L, token.issuedAt().minusSeconds(60));
+
+        assertThat(revocations.isRevoked(token)).isTrue();
+    }
+}
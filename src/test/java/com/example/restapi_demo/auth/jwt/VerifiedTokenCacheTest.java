@@ -0,0 +1,63 @@
+package com.example.restapi_demo.auth.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VerifiedTokenCache 테스트")
+class VerifiedTokenCacheTest {
+
+    private final TokenProvider tokenProvider =
+            new TokenProvider("test-secret-key-that-is-long-enough-for-hs256-algorithm", 60_000);
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final Function<String, VerifiedToken> countingVerifier = token -> {
+        verifications.incrementAndGet();
+        return tokenProvider.verify(token);
+    };
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 같은 Authentication 을 돌려준다")
+    void hit() {
+        // given
+        String token = tokenProvider.createToken(1L, "test@example.com", "테스터", "ROLE_USER");
+
+        // when
+        VerifiedToken first = cache.get(token, countingVerifier);
+        VerifiedToken second = cache.get(token, countingVerifier);
+
+        // then
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(second.authentication()).isSameAs(first.authentication());
+        assertThat(cache.stats()).containsEntry("hits", 1L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 저장하지 않음")
+    void invalidNotCached() {
+        cache.get("not-a-jwt", countingVerifier);
+        VerifiedToken again = cache.get("not-a-jwt", countingVerifier);
+
+        assertThat(again.isValid()).isFalse();
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("invalidate 후에는 다시 검증")
+    void invalidate() {
+        String token = tokenProvider.createToken(1L, "test@example.com", "테스터", "ROLE_USER");
+        cache.get(token, countingVerifier);
+
+        // when
+        cache.invalidate(token);
+        cache.get(token, countingVerifier);
+
+        // then
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.restapi_demo.auth.service;
+
+import com.example.restapi_demo.auth.repository.InMemoryRefreshTokenStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RefreshTokenService 테스트")
+class RefreshTokenServiceTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+    private final RefreshTokenService service = new RefreshTokenService(store, 14);
+
+    @Nested
+    @DisplayName("회전")
+    class Rotate {
+
+        @Test
+        @DisplayName("성공 - 새 토큰 발급, 같은 사용자")
+        void success() {
+            // given
+            RefreshTokenService.Issued issued = service.issue(1L);
+
+            // when
+            RefreshTokenService.Rotation rotation = service.rotate(issued.token());
+
+            // then
+            assertThat(rotation.status()).isEqualTo(RefreshTokenService.Status.ROTATED);
+            assertThat(rotation.userId()).isEqualTo(1L);
+            assertThat(rotation.next().token()).isNotEqualTo(issued.token());
+        }
+
+        @Test
+        @DisplayName("이미 쓴 토큰 재사용 - REUSED, 회전으로 받은 토큰까지 폐기")
+        void reuseRevokesFamily() {
+            // given
+            RefreshTokenService.Issued first = service.issue(1L);
+            RefreshTokenService.Issued second = service.rotate(first.token()).next();
+
+            // when - 탈취된 첫 토큰을 다시 사용
+            RefreshTokenService.Rotation reused = service.rotate(first.token());
+
+            // then
+            assertThat(reused.status()).isEqualTo(RefreshTokenService.Status.REUSED);
+            assertThat(service.rotate(second.token()).status()).isEqualTo(RefreshTokenService.Status.INVALID);
+        }
+
+        @Test
+        @DisplayName("다른 로그인(family)의 토큰은 영향 없음")
+        void otherFamilyUntouched() {
+            RefreshTokenService.Issued a = service.issue(1L);
+            RefreshTokenService.Issued b = service.issue(1L);
+            service.rotate(a.token());
+            service.rotate(a.token());
+
+            assertThat(service.rotate(b.token()).status()).isEqualTo(RefreshTokenService.Status.ROTATED);
+        }
+
+        @Test
+        @DisplayName("모르는 토큰 / 빈 값 - INVALID")
+        void unknown() {
+            assertThat(service.rotate("unknown").status()).isEqualTo(RefreshTokenService.Status.INVALID);
+            assertThat(service.rotate(" ").status()).isEqualTo(RefreshTokenService.Status.INVALID);
+        }
+    }
+
+    @Nested
+    @DisplayName("폐기")
+    class Revoke {
+
+        @Test
+        @DisplayName("로그아웃 - 해당 토큰 사용 불가")
+        void logout() {
+            RefreshTokenService.Issued issued = service.issue(1L);
+
+            service.revoke(issued.token());
+
+            assertThat(service.rotate(issued.token()).status()).isEqualTo(RefreshTokenService.Status.INVALID);
+        }
+
+        @Test
+        @DisplayName("사용자 전체 폐기 - 다른 사용자는 유지")
+        void allForUser() {
+            RefreshTokenService.Issued mine = service.issue(1L);
+            RefreshTokenService.Issued other = service.issue(2L);
+
+            service.revokeAllForUser(1L);
+
+            assertThat(service.rotate(mine.token()).status()).isEqualTo(RefreshTokenService.Status.INVALID);
+            assertThat(service.rotate(other.token()).status()).isEqualTo(RefreshTokenService.Status.ROTATED);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.restapi_demo.auth.throttle;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LoginRateLimiter 테스트")
+class LoginRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+    private LoginRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // IP: 3개 후 분당 60개(1초에 1개), 이메일: 2개 후 분당 6개(10초에 1개)
+        limiter = new LoginRateLimiter(true,
+                new LoginRateLimiter.Limit(3, 60),
+                new LoginRateLimiter.Limit(2, 6),
+                1000, 600, now::get);
+    }
+
+    @Test
+    @DisplayName("이메일 버킷 용량까지 허용 후 거절, 다음 토큰까지 남은 초를 반환")
+    void emailLimit() {
+        assertThat(limiter.tryAcquire("1.1.1.1", "a@b.com")).isZero();
+        assertThat(limiter.tryAcquire("1.1.1.1", "a@b.com")).isZero();
+
+        // when
+        long retryAfter = limiter.tryAcquire("1.1.1.1", "A@B.com ");
+
+        // then - 대소문자/공백만 다른 이메일도 같은 버킷
+        assertThat(retryAfter).isEqualTo(10);
+        assertThat(limiter.stats()).containsEntry("rejectedByEmail", 1L);
+    }
+
+    @Test
+    @DisplayName("IP 버킷은 이메일이 달라도 공유")
+    void ipLimit() {
+        assertThat(limiter.tryAcquire("1.1.1.1", "a@b.com")).isZero();
+        assertThat(limiter.tryAcquire("1.1.1.1", "b@b.com")).isZero();
+        assertThat(limiter.tryAcquire("1.1.1.1", "c@b.com")).isZero();
+
+        assertThat(limiter.tryAcquire("1.1.1.1", "d@b.com")).isEqualTo(1);
+        assertThat(limiter.tryAcquire("2.2.2.2", "d@b.com")).isZero();
+        assertThat(limiter.stats()).containsEntry("rejectedByIp", 1L);
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 찬다")
+    void refill() {
+        limiter.tryAcquire("1.1.1.1", "a@b.com");
+        limiter.tryAcquire("1.1.1.1", "a@b.com");
+        assertThat(limiter.tryAcquire("1.1.1.1", "a@b.com")).isPositive();
+
+        // when - 10초 경과 → 이메일 토큰 1개
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        // then
+        assertThat(limiter.tryAcquire("1.1.1.1", "a@b.com")).isZero();
+        assertThat(limiter.tryAcquire("1.1.1.1", "a@b.com")).isPositive();
+    }
+
+    @Test
+    @DisplayName("비활성화 시 항상 허용")
+    void disabled() {
+        LoginRateLimiter off = new LoginRateLimiter(false,
+                new LoginRateLimiter.Limit(1, 1), new LoginRateLimiter.Limit(1, 1), 10, 60, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(off.tryAcquire("1.1.1.1", "a@b.com")).isZero();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.restapi_demo.post.controller;
 
+import com.example.restapi_demo.common.api.CursorPage;
+import com.example.restapi_demo.common.api.PageCursor;
 import com.example.restapi_demo.post.dto.*;
 import com.example.restapi_demo.post.model.Post;
 import com.example.restapi_demo.post.service.PostService;
@@ -18,7 +20,11 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
+import static com.example.restapi_demo.support.TestFixtures.loginAs;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -80,6 +86,36 @@ class PostControllerTest {
                     .andExpect(jsonPath("$.data.size").value(10));
         }
 
+        @Test
+        @DisplayName("성공 - 커서 모드 첫 페이지")
+        void success_cursorFirstPage() throws Exception {
+            // Given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 10, 19, 15, 20);
+            PostSummary postSummary = new PostSummary(1L, "테스트 제목", "작성자", 0, 0, 0, createdAt);
+            String nextCursor = PageCursor.of(createdAt, 1L).encode();
+            when(postService.getPostsByCursor(isNull(), eq(10)))
+                    .thenReturn(new CursorPage<>(List.of(postSummary), 10, nextCursor, true));
+
+            // When & Then
+            mockMvc.perform(get("/api/posts").param("cursor", ""))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("read_success"))
+                    .andExpect(jsonPath("$.data.content[0].postId").value(1))
+                    .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("실패 - 잘못된 커서")
+        void fail_invalidCursor() throws Exception {
+            // When & Then
+            mockMvc.perform(get("/api/posts").param("cursor", "invalid!"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("invalid_cursor"));
+        }
+
         @Test
         @DisplayName("서버 오류")
         void serverError() throws Exception {
@@ -421,13 +457,14 @@ class PostControllerTest {
     class SearchPosts {
 
         @Test
-        @DisplayName("제목으로 검색 성공")
+        @DisplayName("제목으로 검색 성공 - 기본은 게시글 목록과 같은 page/size 응답")
         void searchByTitle_success() throws Exception {
             // Given
             List<PostSummary> results = List.of(
                     new PostSummary(1L, "테스트 제목", "작성자", 0, 0, 0, LocalDateTime.now())
             );
-            when(postService.searchByTitle("테스트")).thenReturn(results);
+            when(postService.searchByTitle(eq("테스트"), eq(0), eq(10)))
+                    .thenReturn(new PostListResponse(results, 0, 10, 1, 1));
 
             // When & Then
             mockMvc.perform(get("/api/posts/search/title")
@@ -435,18 +472,89 @@ class PostControllerTest {
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.message").value("read_success"))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data[0].title").value("테스트 제목"));
+                    .andExpect(jsonPath("$.data.content").isArray())
+                    .andExpect(jsonPath("$.data.content[0].title").value("테스트 제목"))
+                    .andExpect(jsonPath("$.data.page").value(0))
+                    .andExpect(jsonPath("$.data.totalElements").value(1));
+        }
+
+        @Test
+        @DisplayName("제목 검색 - 커서 모드 첫 페이지 (빈 커서)")
+        void searchByTitle_firstCursorPage() throws Exception {
+            // Given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 10, 20, 9, 0);
+            List<PostSummary> results = List.of(
+                    new PostSummary(50L, "테스트 제목", "작성자", 0, 0, 0, createdAt)
+            );
+            String nextCursor = PageCursor.of(createdAt, 50L).encode();
+            when(postService.searchByTitle(eq("테스트"), isNull(), eq(1)))
+                    .thenReturn(new CursorPage<>(results, 1, nextCursor, true));
+
+            // When & Then
+            mockMvc.perform(get("/api/posts/search/title")
+                            .param("keyword", "테스트")
+                            .param("cursor", "")
+                            .param("size", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("제목 검색 - 다음 페이지 커서 전달")
+        void searchByTitle_withCursor() throws Exception {
+            // Given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 10, 20, 9, 0);
+            String cursor = PageCursor.of(createdAt, 50L).encode();
+            List<PostSummary> results = List.of(
+                    new PostSummary(49L, "테스트 제목", "작성자", 0, 0, 0, createdAt.minusMinutes(1))
+            );
+            when(postService.searchByTitle(eq("테스트"), argThat(c -> c != null && c.getId() == 50L), eq(1)))
+                    .thenReturn(new CursorPage<>(results, 1, PageCursor.of(createdAt.minusMinutes(1), 49L).encode(), true));
+
+            // When & Then
+            mockMvc.perform(get("/api/posts/search/title")
+                            .param("keyword", "테스트")
+                            .param("cursor", cursor)
+                            .param("size", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].postId").value(49))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("제목 검색 - 잘못된 커서")
+        void searchByTitle_invalidCursor() throws Exception {
+            mockMvc.perform(get("/api/posts/search/title")
+                            .param("keyword", "테스트")
+                            .param("cursor", "not-a-cursor"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("invalid_cursor"));
         }
 
         @Test
-        @DisplayName("작성자로 검색 성공")
+        @DisplayName("제목 검색 - id 만 담긴 커서는 거절 (검색 커서는 (createdAt, id) 형식)")
+        void searchByTitle_idOnlyCursor() throws Exception {
+            mockMvc.perform(get("/api/posts/search/title")
+                            .param("keyword", "테스트")
+                            .param("cursor", PageCursor.ofId(50L).encode()))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("invalid_cursor"));
+        }
+
+        @Test
+        @DisplayName("작성자로 검색 성공 - 기본은 page/size 응답")
         void searchByAuthor_success() throws Exception {
             // Given
             List<PostSummary> results = List.of(
                     new PostSummary(1L, "제목", "홍길동", 0, 0, 0, LocalDateTime.now())
             );
-            when(postService.findByAuthorNickname("홍길동")).thenReturn(results);
+            when(postService.findByAuthorNickname(eq("홍길동"), eq(0), eq(10)))
+                    .thenReturn(new PostListResponse(results, 0, 10, 1, 1));
 
             // When & Then
             mockMvc.perform(get("/api/posts/search/author")
@@ -454,8 +562,142 @@ class PostControllerTest {
                     .andDo(print())
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.message").value("read_success"))
-                    .andExpect(jsonPath("$.data").isArray())
-                    .andExpect(jsonPath("$.data[0].author").value("홍길동"));
+                    .andExpect(jsonPath("$.data.content").isArray())
+                    .andExpect(jsonPath("$.data.content[0].author").value("홍길동"))
+                    .andExpect(jsonPath("$.data.totalPages").value(1));
+        }
+
+        @Test
+        @DisplayName("작성자 검색 - 제목 검색과 같은 커서 형식")
+        void searchByAuthor_withCursor() throws Exception {
+            // Given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 10, 20, 9, 0);
+            String cursor = PageCursor.of(createdAt, 5L).encode();
+            List<PostSummary> results = List.of(
+                    new PostSummary(4L, "제목", "홍길동", 0, 0, 0, createdAt.minusDays(1))
+            );
+            when(postService.findByAuthorNickname(eq("홍길동"),
+                    argThat(c -> c != null && c.getId() == 5L && createdAt.equals(c.getCreatedAt())), eq(10)))
+                    .thenReturn(new CursorPage<>(results, 10, null, false));
+
+            // When & Then
+            mockMvc.perform(get("/api/posts/search/author")
+                            .param("nickname", "홍길동")
+                            .param("cursor", cursor))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].postId").value(4))
+                    .andExpect(jsonPath("$.data.hasNext").value(false));
+        }
+    }
+
+    @Nested
+    @DisplayName("작성자별 게시글 목록")
+    class PostsByAuthor {
+
+        @Test
+        @DisplayName("성공 - 비로그인")
+        void success() throws Exception {
+            // Given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 10, 20, 9, 0);
+            List<PostSummary> results = List.of(
+                    new PostSummary(5L, "제목", "홍길동", 0, 0, 0, createdAt)
+            );
+            String nextCursor = PageCursor.of(createdAt, 5L).encode();
+            when(postService.getPostsByAuthor(eq(3L), isNull(), eq(1)))
+                    .thenReturn(new CursorPage<>(results, 1, nextCursor, true));
+
+            // When & Then
+            mockMvc.perform(get("/api/users/3/posts").param("size", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("read_success"))
+                    .andExpect(jsonPath("$.data.content[0].postId").value(5))
+                    .andExpect(jsonPath("$.data.nextCursor").value(nextCursor));
+        }
+
+        @Test
+        @DisplayName("실패 - 없는 사용자")
+        void userNotFound() throws Exception {
+            // Given
+            when(postService.getPostsByAuthor(eq(99L), isNull(), anyInt())).thenReturn(null);
+
+            // When & Then
+            mockMvc.perform(get("/api/users/99/posts"))
+                    .andDo(print())
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message").value("user_not_found"));
+        }
+
+        @Test
+        @DisplayName("실패 - id 만 담긴 커서")
+        void invalidCursor() throws Exception {
+            mockMvc.perform(get("/api/users/3/posts")
+                            .param("cursor", PageCursor.ofId(5L).encode()))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("invalid_cursor"));
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 한 게시글 목록")
+    class MyLikes {
+
+        @Test
+        @DisplayName("성공")
+        void success() throws Exception {
+            // Given
+            PostSummary liked = new PostSummary(5L, "제목", "작성자", 1, 0, 0, LocalDateTime.now());
+            liked.setLikedByMe(true);
+            when(postService.getLikedPosts(eq(100L), isNull(), eq(10)))
+                    .thenReturn(new CursorPage<>(List.of(liked), 10, null, false));
+
+            // When & Then
+            mockMvc.perform(get("/api/users/me/likes").with(loginAs(100L, "작성자")))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content[0].postId").value(5))
+                    .andExpect(jsonPath("$.data.content[0].likedByMe").value(true));
+        }
+
+        @Test
+        @DisplayName("실패 - 비로그인")
+        void unauthorized() throws Exception {
+            mockMvc.perform(get("/api/users/me/likes"))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Nested
+    @DisplayName("내 댓글 목록")
+    class MyComments {
+
+        @Test
+        @DisplayName("성공")
+        void success() throws Exception {
+            // Given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 10, 20, 9, 0);
+            MyCommentResponse comment = new MyCommentResponse(11L, 1L, "테스트 제목", "댓글", createdAt);
+            when(postService.getMyComments(eq(100L), isNull(), eq(10)))
+                    .thenReturn(new CursorPage<>(List.of(comment), 10, null, false));
+
+            // When & Then
+            mockMvc.perform(get("/api/users/me/comments").with(loginAs(100L, "작성자")))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("read_success"))
+                    .andExpect(jsonPath("$.data.content[0].post_id").value(1))
+                    .andExpect(jsonPath("$.data.content[0].post_title").value("테스트 제목"));
+        }
+
+        @Test
+        @DisplayName("실패 - 비로그인")
+        void unauthorized() throws Exception {
+            mockMvc.perform(get("/api/users/me/comments"))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized());
         }
     }
 
@@ -548,6 +790,34 @@ class PostControllerTest {
                     .andExpect(jsonPath("$.data").isArray())
                     .andExpect(jsonPath("$.data.length()").value(2));
         }
+
+        @Test
+        @DisplayName("커서 모드 - limit 만 전달하면 첫 페이지")
+        void getComments_cursorFirstPage() throws Exception {
+            // Given
+            LocalDateTime createdAt = LocalDateTime.of(2025, 10, 19, 15, 20);
+            String nextCursor = PageCursor.of(createdAt, 1L).encode();
+            CursorPage<CommentResponse> page = new CursorPage<>(
+                    List.of(new CommentResponse(1L, "작성자1", "댓글1", createdAt)), 1, nextCursor, true);
+            when(postService.getComments(eq(1L), isNull(), eq(1))).thenReturn(page);
+
+            // When & Then
+            mockMvc.perform(get("/api/posts/1/comments").param("limit", "1"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.content.length()").value(1))
+                    .andExpect(jsonPath("$.data.nextCursor").value(nextCursor))
+                    .andExpect(jsonPath("$.data.hasNext").value(true));
+        }
+
+        @Test
+        @DisplayName("커서 모드 - 잘못된 커서")
+        void getComments_invalidCursor() throws Exception {
+            mockMvc.perform(get("/api/posts/1/comments").param("after", "invalid!"))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("invalid_cursor"));
+        }
     }
 
     @Nested
@@ -570,7 +840,7 @@ class PostControllerTest {
                     "댓글 내용",
                     LocalDateTime.now()
             );
-            when(postService.createComment(1L, 1L, "테스터", "댓글 내용"))
+            when(postService.createComment(1L, 1L, "테스터", "댓글 내용", null))
                     .thenReturn(response);
 
             String requestBody = """
@@ -638,7 +908,7 @@ class PostControllerTest {
             mockUser.setNickname("테스터");
             when(userService.findByEmail("test@example.com")).thenReturn(mockUser);
 
-            when(postService.createComment(999L, 1L, "테스터", "댓글 내용"))
+            when(postService.createComment(999L, 1L, "테스터", "댓글 내용", null))
                     .thenReturn(null);
 
             String requestBody = """
@@ -856,5 +1126,92 @@ class PostControllerTest {
 
     }
 
+    @Nested
+    @DisplayName("답글")
+    class Replies {
+
+        @Test
+        @DisplayName("실패 - 다른 게시글의 댓글을 부모로 지정")
+        void createReply_invalidParent() throws Exception {
+            // Given
+            when(postService.isCommentOfPost(1L, 99L)).thenReturn(false);
+
+            String requestBody = """
+            {
+              "content": "답글",
+              "parent_id": 99
+            }
+            """;
+
+            mockMvc.perform(post("/api/posts/1/comments")
+                            .with(loginAs(1L, "tester"))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(requestBody))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("invalid_parent"));
+        }
+
+        @Test
+        @DisplayName("트리 조회 성공")
+        void getCommentTree_success() throws Exception {
+            // Given
+            CommentTreeNode root = new CommentTreeNode(1L, null, "작성자1", "댓글", false, LocalDateTime.now());
+            root.getReplies().add(new CommentTreeNode(2L, 1L, "작성자2", "답글", false, LocalDateTime.now()));
+            when(postService.getCommentTree(1L)).thenReturn(List.of(root));
+
+            // When & Then
+            mockMvc.perform(get("/api/posts/1/comments/tree"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].comment_id").value(1))
+                    .andExpect(jsonPath("$.data[0].replies[0].comment_id").value(2))
+                    .andExpect(jsonPath("$.data[0].replies[0].parent_id").value(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 여부 일괄 조회")
+    class LikedPostIds {
+
+        @Test
+        @DisplayName("성공 - 요청 순서대로 좋아요 한 게시글만 반환")
+        void success() throws Exception {
+            // Given
+            when(postService.getLikedPostIds(eq(1L), anyCollection())).thenReturn(Set.of(3L, 1L));
+
+            // When & Then
+            mockMvc.perform(get("/api/posts/liked")
+                            .param("postIds", "1,2,3")
+                            .with(loginAs(1L, "tester")))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.message").value("read_success"))
+                    .andExpect(jsonPath("$.data.likedPostIds[0]").value(1))
+                    .andExpect(jsonPath("$.data.likedPostIds[1]").value(3));
+        }
+
+        @Test
+        @DisplayName("실패 - 비로그인")
+        void unauthorized() throws Exception {
+            mockMvc.perform(get("/api/posts/liked").param("postIds", "1,2,3"))
+                    .andDo(print())
+                    .andExpect(status().isUnauthorized());
+        }
 
-}
\ No newline at end of file
+        @Test
+        @DisplayName("실패 - 최대 개수 초과")
+        void tooManyIds() throws Exception {
+            String ids = LongStream.rangeClosed(1, 101)
+                    .mapToObj(String::valueOf)
+                    .collect(Collectors.joining(","));
+
+            mockMvc.perform(get("/api/posts/liked")
+                            .param("postIds", ids)
+                            .with(loginAs(1L, "tester")))
+                    .andDo(print())
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("too_many_post_ids"));
+        }
+    }
+}
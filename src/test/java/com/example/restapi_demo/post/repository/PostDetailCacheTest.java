@@ -0,0 +1,80 @@
+package com.example.restapi_demo.post.repository;
+
+import com.example.restapi_demo.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostDetailCache 테스트")
+class PostDetailCacheTest {
+
+    private final PostDetailCache cache = new PostDetailCache(100, 60);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Optional<PostRepository.DetailSeed> load(Long postId) {
+        loads.incrementAndGet();
+        return Optional.of(TestFixtures.createMockDetailSeed(postId, 1L));
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 게시글은 다시 읽지 않는다")
+    void cachesLoadedSeed() {
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("없는 게시글은 저장하지 않는다")
+    void missingNotCached() {
+        cache.get(2L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+        cache.get(2L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 무효화 - 바로 지운다")
+    void invalidateOutsideTransaction() {
+        cache.get(1L, this::load);
+
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안 무효화 - 커밋 전에 다시 채워진 옛 값도 커밋 후 지운다")
+    void invalidateAgainAfterCommit() {
+        // given
+        cache.get(1L, this::load);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when - 무효화 후 커밋 전에 다른 요청이 (아직 옛) 값을 다시 채움
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+        assertThat(loads.get()).isEqualTo(2);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // then - 커밋 후에는 다시 읽는다
+        cache.get(1L, this::load);
+        assertThat(loads.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.restapi_demo.post.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("TitleNgramIndex 테스트")
+class TitleNgramIndexTest {
+
+    private TitleNgramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // DB 에 게시글이 없는 상태로 빌드 → 이후 put/remove 로만 채운다
+        index = new TitleNgramIndex(mock(JdbcTemplate.class), 100);
+        index.rebuild();
+
+        index.put(1L, "오늘의 일기");
+        index.put(2L, "Spring 공부 일기");
+        index.put(3L, "일기 말고 메모");
+        index.put(4L, "일기 기장");
+        index.put(5L, "Café 후기");
+    }
+
+    @Nested
+    @DisplayName("검색")
+    class Search {
+
+        @Test
+        @DisplayName("포함된 제목만 최신순으로")
+        void contains() {
+            // when
+            List<Long> result = index.search("일기", null, 10).orElseThrow();
+
+            // then
+            assertThat(result).containsExactly(4L, 3L, 2L, 1L);
+        }
+
+        @Test
+        @DisplayName("bigram 은 모두 있지만 이어져 있지 않으면 제외")
+        void gramsNotContiguous() {
+            // "일기 기장" 에는 '일기', '기장' 이 모두 있지만 "일기장" 은 없다
+            assertThat(index.search("일기장", null, 10).orElseThrow()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("대소문자 무시")
+        void ignoreCase() {
+            assertThat(index.search("SPRING", null, 10).orElseThrow()).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("악센트 무시 (DB collation 과 같게)")
+        void ignoreAccents() {
+            assertThat(index.search("cafe", null, 10).orElseThrow()).containsExactly(5L);
+            assertThat(index.search("CAFÉ", null, 10).orElseThrow()).containsExactly(5L);
+        }
+
+        @Test
+        @DisplayName("한 글자 검색은 색인에서 처리하지 않음 (DB 검색으로 대체)")
+        void singleChar() {
+            assertThat(index.search("메", null, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("limit 개수만큼만")
+        void limit() {
+            assertThat(index.search("일기", null, 2).orElseThrow()).containsExactly(4L, 3L);
+        }
+
+        @Test
+        @DisplayName("beforeId 보다 작은 id 부터 (다음 페이지)")
+        void beforeId() {
+            assertThat(index.search("일기", 3L, 10).orElseThrow()).containsExactly(2L, 1L);
+            assertThat(index.search("메모", 3L, 10).orElseThrow()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 반영")
+    class Update {
+
+        @Test
+        @DisplayName("제목 수정 시 옛 제목으로는 검색되지 않음")
+        void retitle() {
+            // when
+            index.put(1L, "내일 계획");
+
+            // then
+            assertThat(index.search("일기", null, 10).orElseThrow()).containsExactly(4L, 3L, 2L);
+            assertThat(index.search("계획", null, 10).orElseThrow()).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("삭제")
+        void remove() {
+            // when
+            index.remove(2L);
+
+            // then
+            assertThat(index.search("일기", null, 10).orElseThrow()).containsExactly(4L, 3L, 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("빌드 전에는 빈 Optional (DB 검색으로 대체)")
+    void notReady() {
+        TitleNgramIndex fresh = new TitleNgramIndex(mock(JdbcTemplate.class), 100);
+        assertThat(fresh.search("일기", null, 10)).isEmpty();
+    }
+}
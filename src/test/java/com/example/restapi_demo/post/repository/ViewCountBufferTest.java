@@ -0,0 +1,179 @@
+package com.example.restapi_demo.post.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ViewCountBuffer 테스트")
+class ViewCountBufferTest {
+
+    private JpaPostEntityRepository postJpa;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        postJpa = mock(JpaPostEntityRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(postJpa.findViews(anyLong())).thenReturn(Optional.of(10));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> capturedArgs() {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        return captor.getValue();
+    }
+
+    @Nested
+    @DisplayName("증가 / flush")
+    class Flush {
+
+        @Test
+        @DisplayName("증가분을 모았다가 게시글별 한 행으로 반영")
+        void accumulateThenFlush() {
+            // given
+            ViewCountBuffer buffer = new ViewCountBuffer(postJpa, jdbcTemplate, 60);
+
+            // when
+            assertThat(buffer.increment(1L)).isEqualTo(11);
+            assertThat(buffer.increment(1L)).isEqualTo(12);
+            assertThat(buffer.increment(1L)).isEqualTo(13);
+            int rows = buffer.flush();
+
+            // then - DB 조회는 카운터를 만들 때 한 번, UPDATE 인자는 (증가분, 게시글 id)
+            assertThat(rows).isEqualTo(1);
+            verify(postJpa, times(1)).findViews(1L);
+            List<Object[]> args = capturedArgs();
+            assertThat(args).hasSize(1);
+            assertThat(args.get(0)).containsExactly(3L, 1L);
+            assertThat(buffer.currentViews(1L)).isEqualTo(13);
+
+            // 새 증가분이 없으면 UPDATE 도 없음
+            assertThat(buffer.flush()).isZero();
+            verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        }
+
+        @Test
+        @DisplayName("없는 게시글은 null, 카운터도 만들지 않음")
+        void missingPost() {
+            when(postJpa.findViews(99L)).thenReturn(Optional.empty());
+            ViewCountBuffer buffer = new ViewCountBuffer(postJpa, jdbcTemplate, 60);
+
+            assertThat(buffer.increment(99L)).isNull();
+            assertThat(buffer.currentViews(99L)).isNull();
+            assertThat(buffer.flush()).isZero();
+        }
+
+        @Test
+        @DisplayName("batchUpdate 실패 시 증가분을 되돌려 다음 flush 에서 다시 반영")
+        void restoreOnFailure() {
+            // given
+            ViewCountBuffer buffer = new ViewCountBuffer(postJpa, jdbcTemplate, 60);
+            buffer.increment(1L);
+            buffer.increment(1L);
+            when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                    .thenThrow(new DataAccessResourceFailureException("down"))
+                    .thenReturn(new int[]{1});
+
+            // when
+            int failed = buffer.flush();
+
+            // then - 화면에 보이는 값은 그대로, 통계에 실패 1건
+            assertThat(failed).isZero();
+            assertThat(buffer.currentViews(1L)).isEqualTo(12);
+            assertThat(buffer.stats()).containsEntry("flushFailures", 1L);
+
+            // when - 재시도
+            buffer.increment(1L);
+            int rows = buffer.flush();
+
+            // then - 실패분 2 + 새 증가분 1
+            assertThat(rows).isEqualTo(1);
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+            verify(jdbcTemplate, times(2)).batchUpdate(anyString(), captor.capture());
+            assertThat(captor.getAllValues().get(1).get(0)).containsExactly(3L, 1L);
+            assertThat(buffer.currentViews(1L)).isEqualTo(13);
+        }
+    }
+
+    @Nested
+    @DisplayName("카운터 정리")
+    class Retire {
+
+        @Test
+        @DisplayName("idle 카운터는 정리되고, 다음 증가 때 DB 값으로 다시 만든다")
+        void retireIdle() {
+            ViewCountBuffer buffer = new ViewCountBuffer(postJpa, jdbcTemplate, 1);
+            buffer.increment(1L);
+            buffer.flush();          // 증가분 반영
+
+            buffer.flush();          // idle 1회 → 정리
+            assertThat(buffer.currentViews(1L)).isNull();
+
+            buffer.increment(1L);
+            verify(postJpa, times(2)).findViews(1L);
+        }
+
+        @Test
+        @DisplayName("정리와 동시에 들어온 증가분도 빠짐없이 반영")
+        void racingIncrementsAreNotLost() throws Exception {
+            // given - 매 flush 마다 정리될 수 있도록 idle 1회, UPDATE 로 반영된 증가분을 합산
+            ViewCountBuffer buffer = new ViewCountBuffer(postJpa, jdbcTemplate, 1);
+            AtomicLong written = new AtomicLong();
+            when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+                List<Object[]> args = inv.getArgument(1);
+                for (Object[] a : args) written.addAndGet((Long) a[0]);
+                return new int[args.size()];
+            });
+
+            int threads = 4;
+            int perThread = 20_000;
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean done = new AtomicBoolean(false);
+            List<Thread> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                Thread w = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) buffer.increment((long) (i % 3));
+                });
+                workers.add(w);
+                w.start();
+            }
+            Thread flusher = new Thread(() -> {
+                while (!done.get()) buffer.flush();
+            });
+            flusher.start();
+
+            // when
+            start.countDown();
+            for (Thread w : workers) w.join();
+            done.set(true);
+            flusher.join();
+            for (int i = 0; i < 3; i++) buffer.flush();   // 정리 대기열에 다시 들어간 카운터까지
+
+            // then
+            assertThat(written.get()).isEqualTo((long) threads * perThread);
+            assertThat(buffer.stats()).containsEntry("pendingViews", 0L);
+        }
+    }
+}
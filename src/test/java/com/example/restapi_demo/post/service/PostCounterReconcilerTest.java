@@ -0,0 +1,322 @@
+package com.example.restapi_demo.post.service;
+
+import com.example.restapi_demo.post.repository.PostDetailCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostCounterReconciler 테스트")
+class PostCounterReconcilerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private PostDetailCache detailCache;
+
+    private PostCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new PostCounterReconciler(jdbcTemplate, transactionManager, detailCache, true, 500, 0);
+    }
+
+    // posts 조회 결과를 흉내낸다: {id, likes_count, comments_count}
+    private void givenPosts(long[]... rows) throws SQLException {
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (long[] row : rows) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(row[0]);
+            when(rs.getInt(2)).thenReturn((int) row[1]);
+            when(rs.getInt(3)).thenReturn((int) row[2]);
+            resultSets.add(rs);
+        }
+        doAnswer(inv -> {
+            RowMapper<?> mapper = inv.getArgument(1);
+            long lastId = inv.getArgument(2);
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i][0] <= lastId) continue;
+                result.add(mapper.mapRow(resultSets.get(i), result.size()));
+            }
+            return result;
+        }).when(jdbcTemplate).query(contains("from posts"), any(RowMapper.class), any(), any());
+    }
+
+    // group by 집계 결과를 흉내낸다: post_id -> count
+    private void givenCounts(String table, Map<Long, Integer> counts) throws SQLException {
+        List<ResultSet> resultSets = new ArrayList<>();
+        for (Map.Entry<Long, Integer> e : counts.entrySet()) {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong(1)).thenReturn(e.getKey());
+            when(rs.getInt(2)).thenReturn(e.getValue());
+            resultSets.add(rs);
+        }
+        doAnswer(inv -> {
+            RowCallbackHandler handler = inv.getArgument(1);
+            for (ResultSet rs : resultSets) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(contains("from " + table), any(RowCallbackHandler.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("실제 개수와 다른 행만 읽었던 값을 조건으로 고친다")
+    void fixesDriftedRows() throws SQLException {
+        // given - 1번은 좋아요, 3번은 댓글 수가 어긋나 있다
+        givenPosts(new long[]{1, 5, 0}, new long[]{2, 1, 2}, new long[]{3, 0, 0});
+        givenCounts("post_likes", Map.of(1L, 3, 2L, 1));
+        givenCounts("comments", Map.of(2L, 2, 3L, 1));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+
+        // when
+        int fixed = reconciler.run();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new Object[]{3, 0, 1L, 5, 0},
+                new Object[]{0, 1, 3L, 0, 0});
+
+        assertThat(fixed).isEqualTo(2);
+        verify(detailCache).invalidate(1L);
+        verify(detailCache).invalidate(3L);
+        verify(detailCache, never()).invalidate(2L);
+        assertThat(reconciler.stats())
+                .containsEntry("lastScanned", 3)
+                .containsEntry("lastFixed", 2)
+                .containsEntry("lastSkipped", 0);
+    }
+
+    @Test
+    @DisplayName("그 사이 값이 바뀌어 update 가 0건이면 고친 것으로 세지 않고 건너뛴다")
+    void casMissCountedAsSkipped() throws SQLException {
+        // given - 2번 행은 읽은 뒤 좋아요가 들어와 where 조건에 걸리지 않는다
+        givenPosts(new long[]{1, 5, 0}, new long[]{2, 0, 0});
+        givenCounts("post_likes", Map.of(1L, 3, 2L, 1));
+        givenCounts("comments", Map.of());
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0});
+
+        // when
+        int fixed = reconciler.run();
+
+        // then
+        assertThat(fixed).isEqualTo(1);
+        verify(detailCache).invalidate(1L);
+        verify(detailCache, never()).invalidate(2L);
+        assertThat(reconciler.stats())
+                .containsEntry("lastFixed", 1)
+                .containsEntry("lastSkipped", 1)
+                .containsEntry("totalFixed", 1L);
+    }
+
+    @Test
+    @DisplayName("어긋난 행이 없으면 update 하지 않는다")
+    void nothingToFix() throws SQLException {
+        // given
+        givenPosts(new long[]{1, 1, 1});
+        givenCounts("post_likes", Map.of(1L, 1));
+        givenCounts("comments", Map.of(1L, 1));
+
+        // when
+        int fixed = reconciler.run();
+
+        // then
+        assertThat(fixed).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("이미 실행 중이면 -1 을 반환하고 겹쳐 돌지 않는다")
+    void concurrentRunReturnsMinusOne() throws Exception {
+        // given - 첫 실행이 posts 조회 중에 멈춰 있다
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(inv -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        }).when(jdbcTemplate).query(contains("from posts"), any(RowMapper.class), any(), any());
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> first = pool.submit(reconciler::run);
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when
+            int second = reconciler.run();
+            release.countDown();
+
+            // then
+            assertThat(second).isEqualTo(-1);
+            assertThat(first.get(5, TimeUnit.SECONDS)).isZero();
+            assertThat(reconciler.stats()).containsEntry("running", false);
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 실제 트랜잭션/행 락으로 확인: 보정 중 좋아요 → 취소가 끼어드는 경우 (A→B→A)
+     * - 좋아요는 보정이 posts 를 읽은 뒤, 취소는 좋아요 집계가 끝난 뒤 끼어든다
+     * - 락 없이 읽으면 where likes_count = 5 가 다시 맞아서 카운트가 6 으로 틀어진다
+     */
+    @Nested
+    @DisplayName("동시 좋아요/취소 (H2)")
+    class Interleaving {
+
+        private DataSource dataSource;
+        private JdbcTemplate jdbc;
+        private TransactionTemplate tx;
+        private ExecutorService pool;
+
+        @BeforeEach
+        void setUp() {
+            DriverManagerDataSource ds = new DriverManagerDataSource(
+                    "jdbc:h2:mem:reconciler;MODE=MySQL;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=5000", "sa", "");
+            dataSource = ds;
+            jdbc = new JdbcTemplate(ds);
+            tx = new TransactionTemplate(new DataSourceTransactionManager(ds));
+            pool = Executors.newFixedThreadPool(2);
+
+            jdbc.execute("drop table if exists posts");
+            jdbc.execute("drop table if exists post_likes");
+            jdbc.execute("drop table if exists comments");
+            jdbc.execute("create table posts (id bigint primary key, likes_count int, comments_count int)");
+            jdbc.execute("create table post_likes (post_id bigint, user_id bigint)");
+            jdbc.execute("create table comments (id bigint primary key, post_id bigint, is_deleted boolean)");
+
+            jdbc.update("insert into posts values (1, 5, 0)");
+            for (long userId = 1; userId <= 5; userId++) {
+                jdbc.update("insert into post_likes values (1, ?)", userId);
+            }
+        }
+
+        // 좋아요/취소 요청과 같은 모양: 행 변경 후 카운트 update, 한 트랜잭션
+        private Future<?> submit(String rowChange, String counterChange) {
+            return pool.submit(() -> tx.executeWithoutResult(status -> {
+                jdbc.update(rowChange);
+                jdbc.update(counterChange);
+            }));
+        }
+
+        // 락에 막혀 있으면 기다리지 않고 보정을 계속 진행시킨다
+        private static void awaitBriefly(Future<?> f) {
+            try {
+                f.get(300, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException blockedByLock) {
+                // 보정 트랜잭션이 끝나면 이어서 실행된다
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Test
+        @DisplayName("보정 중 좋아요 후 취소가 들어와도 카운트와 실제 행 수가 일치한다")
+        void likeThenUnlikeDuringReconcile() throws Exception {
+            // given
+            List<Future<?>> writers = new ArrayList<>();
+            HookedJdbcTemplate hooked = new HookedJdbcTemplate(dataSource);
+            hooked.before("from post_likes", () -> {
+                writers.add(submit(
+                        "insert into post_likes values (1, 99)",
+                        "update posts set likes_count = likes_count + 1 where id = 1"));
+                awaitBriefly(writers.get(0));
+            });
+            hooked.before("from comments", () -> {
+                writers.add(submit(
+                        "delete from post_likes where post_id = 1 and user_id = 1",
+                        "update posts set likes_count = likes_count - 1 where id = 1"));
+                awaitBriefly(writers.get(1));
+            });
+            PostCounterReconciler raced = new PostCounterReconciler(
+                    hooked, new DataSourceTransactionManager(dataSource), detailCache, true, 500, 0);
+
+            try {
+                // when
+                raced.run();
+                for (Future<?> w : writers) w.get(5, TimeUnit.SECONDS);
+
+                // then
+                Integer counter = jdbc.queryForObject("select likes_count from posts where id = 1", Integer.class);
+                Integer rows = jdbc.queryForObject("select count(*) from post_likes where post_id = 1", Integer.class);
+                assertThat(writers).hasSize(2);
+                assertThat(rows).isEqualTo(5);
+                assertThat(counter).isEqualTo(rows);
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /** 집계 쿼리 직전에 끼어들 수 있는 JdbcTemplate (각 훅은 한 번만 실행) */
+    private static final class HookedJdbcTemplate extends JdbcTemplate {
+
+        private final Map<String, Runnable> hooks = new ConcurrentHashMap<>();
+
+        HookedJdbcTemplate(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        void before(String sqlFragment, Runnable hook) {
+            hooks.put(sqlFragment, hook);
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            hooks.keySet().stream()
+                    .filter(sql::contains)
+                    .toList()
+                    .forEach(fragment -> {
+                        Runnable hook = hooks.remove(fragment);
+                        if (hook != null) hook.run();
+                    });
+            super.query(sql, rch, args);
+        }
+    }
+}
@@ -1,10 +1,19 @@
 package com.example.restapi_demo.post.service;
 
+import com.example.restapi_demo.common.api.CursorPage;
+import com.example.restapi_demo.common.api.PageCursor;
 import com.example.restapi_demo.post.dto.*;
 import com.example.restapi_demo.post.model.Comment;
 import com.example.restapi_demo.post.model.Post;
+import com.example.restapi_demo.post.repository.CommentNodeView;
+import com.example.restapi_demo.post.repository.CommentView;
 import com.example.restapi_demo.post.repository.JpaPostEntityRepository;
+import com.example.restapi_demo.post.repository.LikedPostView;
+import com.example.restapi_demo.post.repository.MyCommentView;
 import com.example.restapi_demo.post.repository.PostRepository;
+import com.example.restapi_demo.post.repository.PostSummaryView;
+import com.example.restapi_demo.post.repository.TitleNgramIndex;
+import com.example.restapi_demo.post.repository.ViewCountBuffer;
 import com.example.restapi_demo.user.model.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -15,6 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static com.example.restapi_demo.support.TestFixtures.*;
@@ -27,6 +37,8 @@ class PostServiceImplTest {
 
     @Mock private PostRepository repo;
     @Mock private JpaPostEntityRepository jpaRepo;
+    @Mock private ViewCountBuffer viewBuffer;
+    @Mock private TitleNgramIndex titleIndex;
     @InjectMocks private PostServiceImpl postService;
 
     // ========== 좋아요 기능 ==========
@@ -39,28 +51,28 @@ class PostServiceImplTest {
         @DisplayName("성공")
         void success() {
             // given
-            when(repo.incrementLikes(1L)).thenReturn(Optional.of(5));
+            when(repo.incrementLikes(1L, 100L)).thenReturn(Optional.of(5));
 
             // when
             Integer result = postService.addLike(1L, 100L);
 
             // then
             assertThat(result).isEqualTo(5);
-            verify(repo).incrementLikes(1L);
+            verify(repo).incrementLikes(1L, 100L);
         }
 
         @Test
         @DisplayName("게시글 없음")
         void notFound() {
             // given
-            when(repo.incrementLikes(999L)).thenReturn(Optional.empty());
+            when(repo.incrementLikes(999L, 100L)).thenReturn(Optional.empty());
 
             // when
             Integer result = postService.addLike(999L, 100L);
 
             // then
             assertThat(result).isNull();
-            verify(repo).incrementLikes(999L);
+            verify(repo).incrementLikes(999L, 100L);
         }
     }
 
@@ -72,28 +84,64 @@ class PostServiceImplTest {
         @DisplayName("성공")
         void success() {
             // given
-            when(repo.decrementLikes(1L)).thenReturn(Optional.of(4));
+            when(repo.decrementLikes(1L, 100L)).thenReturn(Optional.of(4));
 
             // when
             Integer result = postService.removeLike(1L, 100L);
 
             // then
             assertThat(result).isEqualTo(4);
-            verify(repo).decrementLikes(1L);
+            verify(repo).decrementLikes(1L, 100L);
         }
 
         @Test
         @DisplayName("게시글 없음")
         void notFound() {
             // given
-            when(repo.decrementLikes(999L)).thenReturn(Optional.empty());
+            when(repo.decrementLikes(999L, 100L)).thenReturn(Optional.empty());
 
             // when
             Integer result = postService.removeLike(999L, 100L);
 
             // then
             assertThat(result).isNull();
-            verify(repo).decrementLikes(999L);
+            verify(repo).decrementLikes(999L, 100L);
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 여부 표시")
+    class MarkLikedByMe {
+
+        @Test
+        @DisplayName("성공 - 한 번의 조회로 목록 전체 표시")
+        void success() {
+            // given
+            PostSummary p1 = new PostSummary(1L, "제목1", "작성자", 0, 0, 0, LocalDateTime.now());
+            PostSummary p2 = new PostSummary(2L, "제목2", "작성자", 0, 0, 0, LocalDateTime.now());
+            when(repo.findLikedPostIds(eq(100L), anyCollection())).thenReturn(Set.of(2L));
+
+            // when
+            postService.markLikedByMe(100L, List.of(p1, p2));
+
+            // then
+            assertThat(p1.getLikedByMe()).isFalse();
+            assertThat(p2.getLikedByMe()).isTrue();
+            verify(repo, times(1)).findLikedPostIds(eq(100L), anyCollection());
+        }
+
+        @Test
+        @DisplayName("비로그인 - 조회하지 않음")
+        void anonymous() {
+            // given
+            PostSummary p1 = new PostSummary(1L, "제목1", "작성자", 0, 0, 0, LocalDateTime.now());
+
+            // when
+            postService.markLikedByMe(null, List.of(p1));
+
+            // then
+            assertThat(p1.getLikedByMe()).isNull();
+            verify(repo, never()).findLikedPostIds(any(), any());
         }
     }
 
@@ -105,29 +153,28 @@ class PostServiceImplTest {
         @DisplayName("성공")
         void success() {
             // given
-            when(jpaRepo.increaseViews(1L)).thenReturn(1);
-            when(jpaRepo.findViews(1L)).thenReturn(Optional.of(150));
+            when(viewBuffer.increment(1L)).thenReturn(150);
 
             // when
             Integer result = postService.increaseViews(1L);
 
             // then
             assertThat(result).isEqualTo(150);
-            verify(jpaRepo).increaseViews(1L);
+            verify(viewBuffer).increment(1L);
         }
 
         @Test
-        @DisplayName("업데이트 실패")
+        @DisplayName("게시글 없음")
         void noUpdate() {
             // given
-            when(jpaRepo.increaseViews(999L)).thenReturn(0);
+            when(viewBuffer.increment(999L)).thenReturn(null);
 
             // when
             Integer result = postService.increaseViews(999L);
 
             // then
             assertThat(result).isNull();
-            verify(jpaRepo).increaseViews(999L);
+            verify(viewBuffer).increment(999L);
         }
     }
 
@@ -313,15 +360,13 @@ class PostServiceImplTest {
         @DisplayName("목록 조회")
         void list() {
             // given
-            Post post = createPost(1L, createUser(1L));
+            PostSummaryView view = createSummaryView(1L, "testUser1");
 
-            Pageable pageable = PageRequest.of(
-                    0, 10, Sort.by(Sort.Direction.DESC, "createdAt")
-            );
+            Pageable pageable = PageRequest.of(0, 10);
 
-            Page<Post> page = new PageImpl<>(List.of(post), pageable, 1);
+            Page<PostSummaryView> page = new PageImpl<>(List.of(view), pageable, 1);
 
-            when(jpaRepo.findAll(any(Pageable.class))).thenReturn(page);
+            when(jpaRepo.findSummaries(any(Pageable.class))).thenReturn(page);
 
             // when
             PostListResponse result = postService.getPosts(0, 10);
@@ -329,8 +374,49 @@ class PostServiceImplTest {
             // then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).getAuthor()).isEqualTo("testUser1");
+
+            verify(jpaRepo).findSummaries(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("커서 목록 - 첫 페이지, 다음 페이지 있음")
+        void cursorFirstPage() {
+            // given: size(2) + 1 개가 조회되면 다음 페이지가 있는 것
+            LocalDateTime now = LocalDateTime.now();
+            PostSummaryView p3 = createSummaryView(3L, "작성자", now);
+            PostSummaryView p2 = createSummaryView(2L, "작성자", now.minusMinutes(1));
+            PostSummaryView p1 = createSummaryView(1L, "작성자", now.minusMinutes(2));
+            when(jpaRepo.findLatest(any(Pageable.class))).thenReturn(List.of(p3, p2, p1));
+
+            // when
+            CursorPage<PostSummary> result = postService.getPostsByCursor(null, 2);
+
+            // then
+            assertThat(result.getContent()).extracting(PostSummary::getPostId).containsExactly(3L, 2L);
+            assertThat(result.isHasNext()).isTrue();
+
+            PageCursor next = PageCursor.decode(result.getNextCursor());
+            assertThat(next.getId()).isEqualTo(2L);
+            assertThat(next.getCreatedAt()).isEqualTo(p2.getCreatedAt());
+            verify(jpaRepo, never()).findSummaries(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("커서 목록 - 마지막 페이지")
+        void cursorLastPage() {
+            // given
+            LocalDateTime at = LocalDateTime.now();
+            PostSummaryView p1 = createSummaryView(1L, "작성자", at.minusMinutes(5));
+            when(jpaRepo.findLatestBefore(eq(at), eq(2L), any(Pageable.class))).thenReturn(List.of(p1));
+
+            // when
+            CursorPage<PostSummary> result = postService.getPostsByCursor(PageCursor.of(at, 2L), 2);
 
-            verify(jpaRepo).findAll(any(Pageable.class));
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
         }
 
         @Test
@@ -348,6 +434,21 @@ class PostServiceImplTest {
             verify(repo).findDetailById(1L);
         }
 
+        @Test
+        @DisplayName("버퍼에 반영 대기 중인 조회수 포함")
+        void withBufferedViews() {
+            // given
+            PostRepository.DetailSeed detailSeed = createMockDetailSeed(1L, 100L);
+            when(repo.findDetailById(1L)).thenReturn(Optional.of(detailSeed));
+            when(viewBuffer.currentViews(1L)).thenReturn(42);
+
+            // when
+            PostDetailResponse result = postService.getPostDetail(1L, 100L);
+
+            // then
+            assertThat(result.getViews()).isEqualTo(42);
+        }
+
         @Test
         @DisplayName("fallback 사용")
         void fallback() {
@@ -374,56 +475,248 @@ class PostServiceImplTest {
         @DisplayName("제목 검색 - 결과 있음")
         void byTitleSuccess() {
             // given
-            Post post = createPost(1L, createUser(1L));
-            when(repo.findByTitleContainingIgnoreCase("테스트")).thenReturn(List.of(post));
+            PostSummaryView view = createSummaryView(1L, "testUser1");
+            when(repo.findSummariesByTitle("테스트", null, 11)).thenReturn(List.of(view));
+
+            // when
+            CursorPage<PostSummary> result = postService.searchByTitle("테스트", null, 10);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            verify(repo).findSummariesByTitle("테스트", null, 11);
+        }
+
+        @Test
+        @DisplayName("제목 검색 - 한 건 더 조회되면 다음 페이지 커서는 마지막 게시글의 (createdAt, id)")
+        void byTitleHasNext() {
+            // given
+            LocalDateTime at = LocalDateTime.of(2025, 10, 20, 9, 0);
+            List<PostSummaryView> rows = List.of(
+                    createSummaryView(9L, "testUser1", at.minusMinutes(1)),
+                    createSummaryView(8L, "testUser1", at.minusMinutes(2)),
+                    createSummaryView(7L, "testUser1", at.minusMinutes(3)));
+            when(repo.findSummariesByTitle("테스트", 10L, 3)).thenReturn(rows);
+
+            // when
+            CursorPage<PostSummary> result = postService.searchByTitle("테스트", PageCursor.of(at, 10L), 2);
+
+            // then
+            assertThat(result.getContent()).extracting(PostSummary::getPostId).containsExactly(9L, 8L);
+            assertThat(result.isHasNext()).isTrue();
+            PageCursor next = PageCursor.decode(result.getNextCursor());
+            assertThat(next.getId()).isEqualTo(8L);
+            assertThat(next.getCreatedAt()).isEqualTo(at.minusMinutes(2));
+        }
+
+        @Test
+        @DisplayName("제목 검색 - 색인 사용 시 이번 페이지 id 만 DB 에서 조회")
+        void byTitleFromIndex() {
+            // given
+            PostSummaryView view = createSummaryView(7L, "testUser1");
+            when(titleIndex.search("테스트", null, 2)).thenReturn(Optional.of(List.of(7L, 5L)));
+            when(repo.findSummariesByIds(List.of(7L))).thenReturn(List.of(view));
 
             // when
-            List<PostSummary> result = postService.searchByTitle("테스트");
+            CursorPage<PostSummary> result = postService.searchByTitle("테스트", null, 1);
 
             // then
-            assertThat(result).hasSize(1);
-            verify(repo).findByTitleContainingIgnoreCase("테스트");
+            assertThat(result.getContent()).extracting(PostSummary::getPostId).containsExactly(7L);
+            assertThat(result.isHasNext()).isTrue();
+            PageCursor next = PageCursor.decode(result.getNextCursor());
+            assertThat(next.getId()).isEqualTo(7L);
+            assertThat(next.hasCreatedAt()).isTrue();
+            verify(repo, never()).findSummariesByTitle(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("제목 검색 페이지 모드 - PostListResponse 로 전체 개수와 함께")
+        void byTitlePage() {
+            // given
+            Pageable pageable = PageRequest.of(1, 10);
+            Page<PostSummaryView> page = new PageImpl<>(List.of(createSummaryView(3L, "testUser1")), pageable, 11);
+            when(repo.findSummaryPageByTitle("테스트", pageable)).thenReturn(page);
+
+            // when
+            PostListResponse result = postService.searchByTitle("테스트", 1, 10);
+
+            // then
+            assertThat(result.getContent()).extracting(PostSummary::getPostId).containsExactly(3L);
+            assertThat(result.getPage()).isEqualTo(1);
+            assertThat(result.getTotalElements()).isEqualTo(11);
+            assertThat(result.getTotalPages()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("제목 검색 페이지 모드 - 페이지 크기는 최대 100")
+        void byTitlePageSizeCapped() {
+            // given
+            Pageable capped = PageRequest.of(0, 100);
+            when(repo.findSummaryPageByTitle("테스트", capped)).thenReturn(Page.empty(capped));
+
+            // when
+            PostListResponse result = postService.searchByTitle("테스트", -1, 5000);
+
+            // then
+            assertThat(result.getSize()).isEqualTo(100);
+            verify(repo).findSummaryPageByTitle("테스트", capped);
+        }
+
+        @Test
+        @DisplayName("제목 검색 - 페이지 크기는 최대 100")
+        void byTitleSizeCapped() {
+            // given
+            when(repo.findSummariesByTitle("테스트", null, 101)).thenReturn(List.of());
+
+            // when
+            CursorPage<PostSummary> result = postService.searchByTitle("테스트", null, 5000);
+
+            // then
+            assertThat(result.getSize()).isEqualTo(100);
+            verify(repo).findSummariesByTitle("테스트", null, 101);
         }
 
         @Test
         @DisplayName("제목 검색 - 결과 없음")
         void byTitleEmpty() {
             // given
-            when(repo.findByTitleContainingIgnoreCase("없음")).thenReturn(List.of());
+            when(repo.findSummariesByTitle("없음", null, 11)).thenReturn(List.of());
 
             // when
-            List<PostSummary> result = postService.searchByTitle("없음");
+            CursorPage<PostSummary> result = postService.searchByTitle("없음", null, 10);
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getNextCursor()).isNull();
         }
 
         @Test
-        @DisplayName("작성자 검색 - 결과 있음")
+        @DisplayName("작성자 검색 - 닉네임을 id 로 바꾼 뒤 작성자별 목록 조회")
         void byAuthorSuccess() {
             // given
-            Post post = createPost(1L, createUser(1L, "작성자"));
-            when(repo.findByAuthorNickname("작성자")).thenReturn(List.of(post));
+            PostSummaryView view = createSummaryView(1L, "작성자");
+            when(repo.findAuthorIdByNickname("작성자")).thenReturn(Optional.of(3L));
+            when(repo.findSummariesByAuthor(3L, null, null, 11)).thenReturn(List.of(view));
 
             // when
-            List<PostSummary> result = postService.findByAuthorNickname("작성자");
+            CursorPage<PostSummary> result = postService.findByAuthorNickname("작성자", null, 10);
 
             // then
-            assertThat(result).hasSize(1);
-            verify(repo).findByAuthorNickname("작성자");
+            assertThat(result.getContent()).hasSize(1);
+            verify(repo).findSummariesByAuthor(3L, null, null, 11);
         }
 
         @Test
-        @DisplayName("작성자 검색 - 결과 없음")
+        @DisplayName("작성자 검색 - 없는 닉네임이면 게시글 조회 없이 빈 페이지")
         void byAuthorEmpty() {
             // given
-            when(repo.findByAuthorNickname("없음")).thenReturn(List.of());
+            when(repo.findAuthorIdByNickname("없음")).thenReturn(Optional.empty());
 
             // when
-            List<PostSummary> result = postService.findByAuthorNickname("없음");
+            CursorPage<PostSummary> result = postService.findByAuthorNickname("없음", null, 10);
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.isHasNext()).isFalse();
+            verify(repo, never()).findSummariesByAuthor(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("작성자 검색 페이지 모드 - 작성자별 count 와 함께")
+        void byAuthorPage() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            when(repo.findAuthorIdByNickname("작성자")).thenReturn(Optional.of(3L));
+            when(repo.findSummaryPageByAuthor(3L, pageable))
+                    .thenReturn(new PageImpl<>(List.of(createSummaryView(1L, "작성자")), pageable, 1));
+
+            // when
+            PostListResponse result = postService.findByAuthorNickname("작성자", 0, 10);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getTotalElements()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("작성자 검색 페이지 모드 - 없는 닉네임이면 빈 페이지")
+        void byAuthorPageEmpty() {
+            // given
+            when(repo.findAuthorIdByNickname("없음")).thenReturn(Optional.empty());
+
+            // when
+            PostListResponse result = postService.findByAuthorNickname("없음", 0, 10);
+
+            // then
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.getTotalElements()).isZero();
+            verify(repo, never()).findSummaryPageByAuthor(any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("좋아요 한 게시글 목록")
+    class LikedPosts {
+
+        @Test
+        @DisplayName("좋아요 시각 기준 커서, likedByMe 는 모두 true")
+        void page() {
+            // given
+            LocalDateTime likedAt = LocalDateTime.of(2025, 10, 20, 9, 0);
+            LikedPostView v1 = mock(LikedPostView.class);
+            when(v1.getPostId()).thenReturn(5L);
+            when(v1.getLikedAt()).thenReturn(likedAt);
+            LikedPostView v2 = mock(LikedPostView.class);
+            when(repo.findLikedPosts(100L, null, null, 2)).thenReturn(List.of(v1, v2));
+
+            // when
+            CursorPage<PostSummary> result = postService.getLikedPosts(100L, null, 1);
+
+            // then
+            assertThat(result.getContent()).extracting(PostSummary::getPostId).containsExactly(5L);
+            assertThat(result.getContent().get(0).getLikedByMe()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo(PageCursor.of(likedAt, 5L).encode());
+        }
+    }
+
+    @Nested
+    @DisplayName("작성자별 게시글 목록")
+    class PostsByAuthor {
+
+        @Test
+        @DisplayName("커서 다음 페이지 - (createdAt, id) 로 seek")
+        void nextPage() {
+            // given
+            LocalDateTime t = LocalDateTime.of(2025, 10, 20, 9, 0);
+            List<PostSummaryView> rows = List.of(
+                    createSummaryView(9L, "작성자", t),
+                    createSummaryView(8L, "작성자", t.minusMinutes(1)));
+            when(repo.existsAuthor(3L)).thenReturn(true);
+            when(repo.findSummariesByAuthor(3L, t.plusMinutes(1), 10L, 2)).thenReturn(rows);
+
+            // when
+            CursorPage<PostSummary> result = postService.getPostsByAuthor(3L, PageCursor.of(t.plusMinutes(1), 10L), 1);
+
+            // then
+            assertThat(result.getContent()).extracting(PostSummary::getPostId).containsExactly(9L);
+            assertThat(result.isHasNext()).isTrue();
+            PageCursor next = PageCursor.decode(result.getNextCursor());
+            assertThat(next.getCreatedAt()).isEqualTo(t);
+            assertThat(next.getId()).isEqualTo(9L);
+        }
+
+        @Test
+        @DisplayName("없는 사용자면 null")
+        void unknownAuthor() {
+            // given
+            when(repo.existsAuthor(99L)).thenReturn(false);
+
+            // when
+            CursorPage<PostSummary> result = postService.getPostsByAuthor(99L, null, 10);
+
+            // then
+            assertThat(result).isNull();
+            verify(repo, never()).findSummariesByAuthor(any(), any(), any(), anyInt());
         }
     }
 
@@ -438,16 +731,16 @@ class PostServiceImplTest {
         void success() {
             // given
             Comment comment = createComment(1L, createUser(100L, "작성자"), "댓글");
-            when(repo.addComment(1L, 100L, "작성자", "댓글"))
+            when(repo.addComment(1L, 100L, "작성자", "댓글", null))
                     .thenReturn(Optional.of(comment));
 
             // when
-            CommentResponse result = postService.createComment(1L, 100L, "작성자", "댓글");
+            CommentResponse result = postService.createComment(1L, 100L, "작성자", "댓글", null);
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getContent()).isEqualTo("댓글");
-            verify(repo).addComment(1L, 100L, "작성자", "댓글");
+            verify(repo).addComment(1L, 100L, "작성자", "댓글", null);
         }
 
         @Test
@@ -455,26 +748,27 @@ class PostServiceImplTest {
         void nullNickname() {
             // given
             Comment comment = createComment(1L, createUser(100L, "나"), "댓글");
-            when(repo.addComment(1L, 100L, "나", "댓글"))
+            when(repo.addComment(1L, 100L, "나", "댓글", null))
                     .thenReturn(Optional.of(comment));
 
             // when
-            CommentResponse result = postService.createComment(1L, 100L, null, "댓글");
+            CommentResponse result = postService.createComment(1L, 100L, null, "댓글", null);
 
             // then
             assertThat(result).isNotNull();
-            verify(repo).addComment(1L, 100L, "나", "댓글");
+            assertThat(result.getAuthor()).isEqualTo("나");
+            verify(repo).addComment(1L, 100L, "나", "댓글", null);
         }
 
         @Test
         @DisplayName("Repository empty")
         void failure() {
             // given
-            when(repo.addComment(1L, 100L, "작성자", "댓글"))
+            when(repo.addComment(1L, 100L, "작성자", "댓글", null))
                     .thenReturn(Optional.empty());
 
             // when
-            CommentResponse result = postService.createComment(1L, 100L, "작성자", "댓글");
+            CommentResponse result = postService.createComment(1L, 100L, "작성자", "댓글", null);
 
             // then
             assertThat(result).isNull();
@@ -584,5 +878,84 @@ class PostServiceImplTest {
             assertThat(result).isEmpty();
             verify(repo).findCommentsByPostId(1L);
         }
+
+        @Test
+        @DisplayName("트리 조립 - 답글은 부모 아래 작성 순서대로, 답글 없는 삭제 댓글은 제외")
+        void tree() {
+            // given
+            LocalDateTime at = LocalDateTime.of(2025, 10, 19, 15, 20);
+            CommentNodeView root1 = createCommentNodeView(1L, null, true, at);              // 삭제됐지만 답글 있음
+            CommentNodeView root2 = createCommentNodeView(2L, null, false, at.plusSeconds(1));
+            CommentNodeView reply1 = createCommentNodeView(3L, 1L, false, at.plusSeconds(2));
+            CommentNodeView reply2 = createCommentNodeView(4L, 1L, false, at.plusSeconds(3));
+            CommentNodeView deletedLeaf = createCommentNodeView(5L, 2L, true, at.plusSeconds(4));
+            when(repo.findCommentNodes(1L)).thenReturn(List.of(root1, root2, reply1, reply2, deletedLeaf));
+
+            // when
+            List<CommentTreeNode> result = postService.getCommentTree(1L);
+
+            // then
+            assertThat(result).extracting(CommentTreeNode::getComment_id).containsExactly(1L, 2L);
+            assertThat(result.get(0).isDeleted()).isTrue();
+            assertThat(result.get(0).getContent()).isNull();
+            assertThat(result.get(0).getReplies()).extracting(CommentTreeNode::getComment_id).containsExactly(3L, 4L);
+            assertThat(result.get(1).getReplies()).isEmpty();
+            verify(repo, times(1)).findCommentNodes(1L);
+        }
+
+        @Test
+        @DisplayName("내 댓글 - 최신순 페이지에 게시글 id/제목 포함, 다음 커서는 마지막 댓글 기준")
+        void myComments() {
+            // given
+            LocalDateTime at = LocalDateTime.of(2025, 10, 19, 15, 20);
+            MyCommentView c1 = createMyCommentView(9L, 1L, at);
+            MyCommentView c2 = createMyCommentView(7L, 2L, at.minusSeconds(1));
+            when(repo.findCommentsByAuthor(100L, null, null, 2)).thenReturn(List.of(c1, c2));
+
+            // when
+            CursorPage<MyCommentResponse> result = postService.getMyComments(100L, null, 1);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.getContent().get(0).getPost_id()).isEqualTo(1L);
+            assertThat(result.getContent().get(0).getPost_title()).isEqualTo("테스트 제목 1");
+            assertThat(result.getNextCursor()).isEqualTo(PageCursor.of(at, 9L).encode());
+        }
+
+        @Test
+        @DisplayName("커서 페이지 - limit + 1 개 조회 후 다음 커서 생성")
+        void cursorPage() {
+            // given
+            LocalDateTime at = LocalDateTime.of(2025, 10, 19, 15, 20);
+            CommentView c1 = createCommentView(1L, "작성자1", at);
+            CommentView c2 = createCommentView(2L, "작성자2", at);
+            CommentView c3 = createCommentView(3L, "작성자3", at.plusSeconds(1));
+            when(repo.findCommentPage(1L, null, null, 3)).thenReturn(List.of(c1, c2, c3));
+
+            // when
+            CursorPage<CommentResponse> result = postService.getComments(1L, null, 2);
+
+            // then
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(result.getNextCursor()).isEqualTo(PageCursor.of(at, 2L).encode());
+        }
+
+        @Test
+        @DisplayName("커서 페이지 - 커서 다음부터 조회")
+        void cursorPageAfter() {
+            // given
+            LocalDateTime at = LocalDateTime.of(2025, 10, 19, 15, 20);
+            CommentView c3 = createCommentView(3L, "작성자3", at.plusSeconds(1));
+            when(repo.findCommentPage(1L, at, 2L, 3)).thenReturn(List.of(c3));
+
+            // when
+            CursorPage<CommentResponse> result = postService.getComments(1L, PageCursor.of(at, 2L), 2);
+
+            // then
+            assertThat(result.getContent()).hasSize(1);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
     }
 }
\ No newline at end of file
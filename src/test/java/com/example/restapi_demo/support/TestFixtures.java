@@ -1,15 +1,24 @@
 package com.example.restapi_demo.support;
 
+import com.example.restapi_demo.auth.jwt.CustomUserPrincipal;
 import com.example.restapi_demo.post.model.Post;
 import com.example.restapi_demo.post.model.Comment;
+import com.example.restapi_demo.post.repository.CommentNodeView;
+import com.example.restapi_demo.post.repository.CommentView;
+import com.example.restapi_demo.post.repository.MyCommentView;
 import com.example.restapi_demo.post.repository.PostRepository;
+import com.example.restapi_demo.post.repository.PostSummaryView;
 import com.example.restapi_demo.user.model.User;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
 
 public class TestFixtures {
 
@@ -27,6 +36,15 @@ public class TestFixtures {
         return createUser(id, "testUser" + id);
     }
 
+    // ========== 인증 (JwtFilter 가 넣어주는 principal 과 동일한 형태) ==========
+
+    public static RequestPostProcessor loginAs(Long userId, String nickname) {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        CustomUserPrincipal principal =
+                new CustomUserPrincipal(userId, nickname + "@test.com", nickname, authorities);
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
     // ========== Post 생성 ==========
 
     public static Post createPost(Long id, User author, boolean isDeleted) {
@@ -96,4 +114,59 @@ public class TestFixtures {
     public static PostRepository.DetailSeed createMockDetailSeed(Long postId, Long authorId) {
         return createMockDetailSeed(postId, authorId, "테스트 제목", "테스트 내용");
     }
-}
\ No newline at end of file
+
+    public static PostSummaryView createSummaryView(Long postId, String author, LocalDateTime createdAt) {
+        PostSummaryView view = mock(PostSummaryView.class);
+
+        lenient().when(view.getPostId()).thenReturn(postId);
+        lenient().when(view.getTitle()).thenReturn("테스트 제목 " + postId);
+        lenient().when(view.getAuthor()).thenReturn(author);
+        lenient().when(view.getLikes()).thenReturn(0);
+        lenient().when(view.getComments()).thenReturn(0);
+        lenient().when(view.getViews()).thenReturn(0);
+        lenient().when(view.getCreatedAt()).thenReturn(createdAt);
+
+        return view;
+    }
+
+    public static CommentView createCommentView(Long commentId, String author, LocalDateTime createdAt) {
+        CommentView view = mock(CommentView.class);
+
+        lenient().when(view.getCommentId()).thenReturn(commentId);
+        lenient().when(view.getAuthor()).thenReturn(author);
+        lenient().when(view.getContent()).thenReturn("댓글 " + commentId);
+        lenient().when(view.getCreatedAt()).thenReturn(createdAt);
+
+        return view;
+    }
+
+    public static MyCommentView createMyCommentView(Long commentId, Long postId, LocalDateTime createdAt) {
+        MyCommentView view = mock(MyCommentView.class);
+
+        lenient().when(view.getCommentId()).thenReturn(commentId);
+        lenient().when(view.getPostId()).thenReturn(postId);
+        lenient().when(view.getPostTitle()).thenReturn("테스트 제목 " + postId);
+        lenient().when(view.getContent()).thenReturn("댓글 " + commentId);
+        lenient().when(view.getCreatedAt()).thenReturn(createdAt);
+
+        return view;
+    }
+
+    public static CommentNodeView createCommentNodeView(Long commentId, Long parentId, boolean deleted,
+                                                        LocalDateTime createdAt) {
+        CommentNodeView view = mock(CommentNodeView.class);
+
+        lenient().when(view.getCommentId()).thenReturn(commentId);
+        lenient().when(view.getParentId()).thenReturn(parentId);
+        lenient().when(view.getAuthor()).thenReturn("작성자" + commentId);
+        lenient().when(view.getContent()).thenReturn("댓글 " + commentId);
+        lenient().when(view.getIsDeleted()).thenReturn(deleted);
+        lenient().when(view.getCreatedAt()).thenReturn(createdAt);
+
+        return view;
+    }
+
+    public static PostSummaryView createSummaryView(Long postId, String author) {
+        return createSummaryView(postId, author, LocalDateTime.now());
+    }
+}
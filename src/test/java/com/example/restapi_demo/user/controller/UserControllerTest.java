@@ -1,5 +1,6 @@
 package com.example.restapi_demo.user.controller;
 
+import com.example.restapi_demo.auth.crypto.PasswordHashingBusyException;
 import com.example.restapi_demo.auth.jwt.CustomUserPrincipal;
 import com.example.restapi_demo.user.model.User;
 import com.example.restapi_demo.user.service.UserService;
@@ -134,6 +135,30 @@ class UserControllerTest {
                     .andExpect(status().isInternalServerError())
                     .andExpect(jsonPath("$.message").value("internal_server_error"));
         }
+
+        @Test
+        @DisplayName("실패 - 비밀번호 해시 대기열 포화")
+        void fail_hashingBusy() throws Exception {
+            // Given
+            when(userService.register(any(), any(), any(), any(), any()))
+                    .thenThrow(new PasswordHashingBusyException("busy", 2));
+
+            // When & Then
+            mockMvc.perform(post("/api/users/signup")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                {
+                                    "email": "test@example.com",
+                                    "password": "password123",
+                                    "password_confirm": "password123",
+                                    "nickname": "테스터",
+                                    "profile_image": ""
+                                }
+                                """))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "2"))
+                    .andExpect(jsonPath("$.message").value("server_busy"));
+        }
     }
 
     // ========== 내 정보 조회 (인증 필요) ==========
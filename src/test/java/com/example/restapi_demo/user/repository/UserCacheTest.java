@@ -0,0 +1,93 @@
+package com.example.restapi_demo.user.repository;
+
+import com.example.restapi_demo.user.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserCache 테스트")
+class UserCacheTest {
+
+    private UserCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserCache(100, 60);
+        loads = new AtomicInteger();
+    }
+
+    private Optional<User> load(Object key) {
+        loads.incrementAndGet();
+        return Optional.of(User.builder().id(1L).email("test@example.com").nickname("테스터").build());
+    }
+
+    @Test
+    @DisplayName("이메일로 읽은 사용자는 대소문자가 달라도, id 로도 다시 읽지 않는다")
+    void emailThenId() {
+        cache.getByEmail("test@example.com", this::load);
+
+        assertThat(cache.getByEmail("TEST@example.com", this::load)).isPresent();
+        assertThat(cache.getById(1L, this::load).map(User::getNickname)).contains("테스터");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("꺼낸 사본을 바꿔도 캐시에는 영향 없음")
+    void returnsCopies() {
+        cache.getById(1L, this::load).orElseThrow().setNickname("변경");
+
+        assertThat(cache.getById(1L, this::load).map(User::getNickname)).contains("테스터");
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 id / 이메일 모두 다시 읽는다")
+    void invalidate() {
+        cache.getByEmail("test@example.com", this::load);
+
+        cache.invalidate(1L);
+        cache.getById(1L, this::load);
+        cache.invalidate(1L);
+        cache.getByEmail("test@example.com", this::load);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이메일로 읽는 도중 무효화되면 읽은 값(옛 행)을 저장하지 않는다")
+    void invalidateDuringLoad() {
+        // given - 읽는 사이 비밀번호가 바뀌어 invalidate 가 실행된 경우
+        Optional<User> loaded = cache.getByEmail("test@example.com", email -> {
+            loads.incrementAndGet();
+            Optional<User> old = Optional.of(User.builder().id(1L).email(email).passwordHash("old").build());
+            cache.invalidate(1L);
+            return old;
+        });
+
+        // when
+        Optional<User> again = cache.getByEmail("test@example.com", email -> {
+            loads.incrementAndGet();
+            return Optional.of(User.builder().id(1L).email(email).passwordHash("new").build());
+        });
+
+        // then - 이번 요청은 읽은 값을 쓰지만, 다음 조회는 다시 DB 에서
+        assertThat(loaded.map(User::getPasswordHash)).contains("old");
+        assertThat(again.map(User::getPasswordHash)).contains("new");
+        assertThat(cache.getById(1L, this::load).map(User::getPasswordHash)).contains("new");
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 저장하지 않는다")
+    void missingNotCached() {
+        cache.getById(2L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+        cache.getById(2L, id -> { loads.incrementAndGet(); return Optional.empty(); });
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
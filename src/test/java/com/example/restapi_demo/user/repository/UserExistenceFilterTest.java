@@ -0,0 +1,184 @@
+package com.example.restapi_demo.user.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserExistenceFilter 테스트")
+class UserExistenceFilterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private UserExistenceFilter filter;
+    private final AtomicInteger dbCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        filter = new UserExistenceFilter(jdbcTemplate, 1000, 0.01, 100);
+    }
+
+    private void givenUsers(Object[]... rows) {
+        doReturn(List.of(rows)).when(jdbcTemplate).query(anyString(), any(RowMapper.class), any(), any());
+        filter.load();
+    }
+
+    private boolean dbSays(boolean exists) {
+        dbCalls.incrementAndGet();
+        return exists;
+    }
+
+    @Nested
+    @DisplayName("normalize")
+    class Normalize {
+
+        @Test
+        @DisplayName("대소문자, 악센트, 앞뒤 공백을 무시한다")
+        void caseAndAccents() {
+            assertThat(UserExistenceFilter.normalize("  José@Example.COM ")).isEqualTo("jose@example.com");
+        }
+
+        @Test
+        @DisplayName("collation 이 같게 보는 확장 문자를 풀어준다 (ß=ss, æ=ae, ﬁ=fi)")
+        void expansions() {
+            assertThat(UserExistenceFilter.normalize("Straße")).isEqualTo(UserExistenceFilter.normalize("STRASSE"));
+            assertThat(UserExistenceFilter.normalize("Æsir")).isEqualTo("aesir");
+            assertThat(UserExistenceFilter.normalize("ﬁle")).isEqualTo("file");
+        }
+
+        @Test
+        @DisplayName("ASCII 와 한글만 남은 키만 믿을 수 있는 키로 본다")
+        void foldedKey() {
+            assertThat(UserExistenceFilter.isFoldedKey(UserExistenceFilter.normalize("Straße"))).isTrue();
+            assertThat(UserExistenceFilter.isFoldedKey(UserExistenceFilter.normalize("홍길동"))).isTrue();
+            assertThat(UserExistenceFilter.isFoldedKey(UserExistenceFilter.normalize("日本"))).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("existsEmail / countNickname")
+    class Lookup {
+
+        @Test
+        @DisplayName("로드 전에는 항상 DB 로 확인한다")
+        void beforeLoad() {
+            // when
+            boolean exists = filter.existsEmail("new@example.com", e -> dbSays(false));
+
+            // then
+            assertThat(exists).isFalse();
+            assertThat(dbCalls.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("필터에 없는 값은 DB 를 조회하지 않는다")
+        void negativeSkipsDb() {
+            // given
+            givenUsers(new Object[]{1L, "user@example.com", "길동"});
+
+            // when
+            boolean exists = filter.existsEmail("new@example.com", e -> dbSays(true));
+            long count = filter.countNickname("철수", n -> { dbCalls.incrementAndGet(); return 1; });
+
+            // then
+            assertThat(exists).isFalse();
+            assertThat(count).isZero();
+            assertThat(dbCalls.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("collation 상 같은 값은 필터가 놓치지 않는다 (straße 저장 → strasse 조회)")
+        void noFalseNegativeForExpansion() {
+            // given
+            givenUsers(new Object[]{1L, "straße@example.com", "Æsir"});
+
+            // when
+            boolean exists = filter.existsEmail("STRASSE@example.com", e -> dbSays(true));
+            long count = filter.countNickname("aesir", n -> { dbCalls.incrementAndGet(); return 1; });
+
+            // then
+            assertThat(exists).isTrue();
+            assertThat(count).isEqualTo(1);
+            assertThat(dbCalls.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("정규화로 다 풀리지 않는 키는 필터를 건너뛰고 DB 로 확인한다")
+        void unfoldedKeyFallsThrough() {
+            // given
+            givenUsers(new Object[]{1L, "user@example.com", "길동"});
+
+            // when
+            boolean exists = filter.existsEmail("日本@example.com", e -> dbSays(true));
+
+            // then
+            assertThat(exists).isTrue();
+            assertThat(dbCalls.get()).isEqualTo(1);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> email = (Map<String, Object>) filter.stats().get("email");
+            assertThat(email)
+                    .containsEntry("bypassed", 1L)
+                    .containsEntry("dbFallbacks", 0L);
+        }
+
+        @Test
+        @DisplayName("저장 전에 추가한 값은 바로 있을 수도 있음으로 본다")
+        void addedValueIsVisible() {
+            // given
+            givenUsers();
+            filter.addEmail("fresh@example.com");
+
+            // when
+            boolean exists = filter.existsEmail("Fresh@Example.com", e -> dbSays(true));
+
+            // then
+            assertThat(exists).isTrue();
+            assertThat(dbCalls.get()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("BloomFilter")
+    class Bloom {
+
+        @Test
+        @DisplayName("넣은 값은 항상 있을 수도 있음, 오탐률은 목표 근처")
+        void noFalseNegativesAndBoundedFpp() {
+            // given
+            BloomFilter bloom = new BloomFilter(1000, 0.01);
+            List<String> inserted = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                String key = "user" + i + "@example.com";
+                bloom.put(key);
+                inserted.add(key);
+            }
+
+            // when
+            int falsePositives = 0;
+            for (int i = 0; i < 10000; i++) {
+                if (bloom.mightContain("other" + i + "@example.com")) falsePositives++;
+            }
+
+            // then
+            assertThat(inserted).allMatch(bloom::mightContain);
+            assertThat(falsePositives / 10000.0).isLessThan(0.03);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.restapi_demo.user.service;
 
+import com.example.restapi_demo.auth.jwt.TokenRevocationList;
+import com.example.restapi_demo.auth.service.RefreshTokenService;
 import com.example.restapi_demo.user.model.User;
+import com.example.restapi_demo.user.repository.UserExistenceFilter;
 import com.example.restapi_demo.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,7 +11,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.List;
@@ -28,6 +33,17 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    // 실제 필터 (load() 전에는 항상 DB 로 확인)
+    @Spy
+    private UserExistenceFilter existenceFilter =
+            new UserExistenceFilter(mock(JdbcTemplate.class), 1000, 0.01, 100);
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -297,6 +313,37 @@ class UserServiceTest {
             assertThat(result).isFalse();
             verify(userRepository).existsByEmail(email);
         }
+
+        @Test
+        @DisplayName("필터 로드 후 - 필터에 없는 이메일은 DB 조회 없이 false")
+        void filteredOut() {
+            //given
+            existenceFilter.load();   // users 가 비어 있는 상태로 로드
+
+            //when
+            boolean result = userService.existsByEmail("nobody@example.com");
+
+            //then
+            assertThat(result).isFalse();
+            verify(userRepository, never()).existsByEmail(any());
+        }
+
+        @Test
+        @DisplayName("필터 로드 후 - 가입한 이메일은 대소문자가 달라도 DB 로 확인")
+        void registeredFallsThrough() {
+            //given
+            existenceFilter.load();
+            when(passwordEncoder.encode("pw")).thenReturn("encoded");
+            userService.register("New@Example.com", "pw", "pw", "새사용자", null);
+            when(userRepository.existsByEmail("new@example.com")).thenReturn(true);
+
+            //when
+            boolean result = userService.existsByEmail("new@example.com");
+
+            //then
+            assertThat(result).isTrue();
+            verify(userRepository).existsByEmail("new@example.com");
+        }
     }
 
     @Nested
@@ -313,6 +360,20 @@ class UserServiceTest {
             verify(userRepository).countByNickname(nickname);
         }
 
+        @Test
+        @DisplayName("필터 로드 후 - 변경한 닉네임은 DB 로 확인, 처음 보는 닉네임은 0")
+        void afterProfileUpdate() {
+            //given
+            existenceFilter.load();
+            userService.updateProfile(1L, "바뀐닉", null);
+            when(userRepository.countByNickname("바뀐닉")).thenReturn(1L);
+
+            //when & then
+            assertThat(userService.countByNickname("바뀐닉")).isEqualTo(1L);
+            assertThat(userService.countByNickname("처음보는닉")).isZero();
+            verify(userRepository, never()).countByNickname("처음보는닉");
+        }
+
     }
 
     @Nested
@@ -666,6 +727,8 @@ class UserServiceTest {
             assertThat(result.errors).isNull();    // ← getter 아님!
             verify(passwordEncoder).encode(newPassword);
             verify(userRepository).updatePassword(userId, encodedPassword);
+            verify(tokenRevocationList).revokeAllIssuedBefore(userId);
+            verify(refreshTokenService).revokeAllForUser(userId);
         }
 
         @Test
@@ -800,6 +863,8 @@ class UserServiceTest {
             // Then
             assertThat(result).isTrue();
             verify(userRepository).deleteById(userId);
+            verify(tokenRevocationList).revokeAllIssuedBefore(userId);
+            verify(refreshTokenService).revokeAllForUser(userId);
         }
 
         @Test